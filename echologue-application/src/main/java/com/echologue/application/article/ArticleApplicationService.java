@@ -1,23 +1,39 @@
 package com.echologue.application.article;
 
 import cn.dev33.satoken.stp.StpUtil;
+import com.echologue.application.article.assembler.ArticleAssembler;
 import com.echologue.application.article.dto.ArticleDTO;
+import com.echologue.application.article.dto.ArticleVersionDTO;
 import com.echologue.application.article.dto.CreateArticleCmd;
 import com.echologue.application.article.dto.UpdateArticleCmd;
-import com.echologue.application.user.UserApplicationService;
+import com.echologue.application.common.ConcurrentQueries;
+import com.echologue.application.common.RequestDataLoader;
 import com.echologue.application.user.dto.UserDTO;
 import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.model.ArticleField;
 import com.echologue.domain.article.model.ArticleId;
+import com.echologue.domain.article.model.ArticleSearchResult;
+import com.echologue.domain.article.model.ArticleSummary;
+import com.echologue.domain.article.model.Slug;
 import com.echologue.domain.article.model.Title;
+import com.echologue.domain.article.repository.IArticleContentHtmlRepository;
+import com.echologue.domain.article.repository.IArticleCounterRepository;
+import com.echologue.domain.article.repository.IArticleFeedVersion;
 import com.echologue.domain.article.repository.IArticleRepository;
+import com.echologue.domain.article.repository.IArticleSearchRepository;
+import com.echologue.domain.article.repository.IArticleViewCounter;
+import com.echologue.domain.article.service.IContentRenderer;
+import com.echologue.domain.category.model.Category;
+import com.echologue.domain.category.model.Tag;
 import com.echologue.domain.user.model.UserId;
 import com.echologue.types.common.PageResult;
 import com.echologue.types.exception.BusinessException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,11 +44,52 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ArticleApplicationService {
     
+    /**
+     * 列表每页条数上限
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final IArticleRepository articleRepository;
-    private final UserApplicationService userApplicationService;
+    private final IArticleViewCounter articleViewCounter;
+    private final IArticleCounterRepository articleCounterRepository;
+    private final IArticleFeedVersion articleFeedVersion;
+    private final IArticleContentHtmlRepository articleContentHtmlRepository;
+    private final IArticleSearchRepository articleSearchRepository;
+    private final IContentRenderer contentRenderer;
+    private final RequestDataLoader requestDataLoader;
+    private final ConcurrentQueries concurrentQueries;
+    private final ArticleAssembler articleAssembler;
+    
+    /**
+     * 列表查询超时
+     */
+    private final Duration pageTimeout;
+    
+    public ArticleApplicationService(IArticleRepository articleRepository,
+                                     IArticleViewCounter articleViewCounter,
+                                     IArticleCounterRepository articleCounterRepository,
+                                     IArticleFeedVersion articleFeedVersion,
+                                     IArticleContentHtmlRepository articleContentHtmlRepository,
+                                     IArticleSearchRepository articleSearchRepository,
+                                     IContentRenderer contentRenderer,
+                                     RequestDataLoader requestDataLoader,
+                                     ConcurrentQueries concurrentQueries,
+                                     ArticleAssembler articleAssembler,
+                                     @Value("${echologue.article.feed.page-timeout:3000}") long pageTimeoutMillis) {
+        this.articleRepository = articleRepository;
+        this.articleViewCounter = articleViewCounter;
+        this.articleCounterRepository = articleCounterRepository;
+        this.articleFeedVersion = articleFeedVersion;
+        this.articleContentHtmlRepository = articleContentHtmlRepository;
+        this.articleSearchRepository = articleSearchRepository;
+        this.contentRenderer = contentRenderer;
+        this.requestDataLoader = requestDataLoader;
+        this.concurrentQueries = concurrentQueries;
+        this.articleAssembler = articleAssembler;
+        this.pageTimeout = Duration.ofMillis(pageTimeoutMillis);
+    }
     
     /**
      * 创建文章
@@ -52,9 +109,11 @@ public class ArticleApplicationService {
         article.setCover(cmd.getCover());
         article.setCategoryId(cmd.getCategoryId());
         article.setTagIds(cmd.getTagIds());
+        article.renderContent(contentRenderer);
         
         // 4. 保存文章
         Article savedArticle = articleRepository.save(article);
+        articleCounterRepository.adjustAuthor(authorId, 1);
         
         log.info("创建文章成功，文章ID：{}", savedArticle.getId().getValue());
         return savedArticle.getId().getValue();
@@ -83,9 +142,17 @@ public class ArticleApplicationService {
         article.updateContent(title, cmd.getContent(), cmd.getSummary(), cmd.getCover());
         article.updateCategory(cmd.getCategoryId());
         article.updateTags(cmd.getTagIds());
+        if (article.getDirtyFields().contains(ArticleField.CONTENT)) {
+            // 正文变化时重新渲染，渲染开销只在编辑时产生
+            article.renderContent(contentRenderer);
+        }
         
         // 5. 保存
         articleRepository.save(article);
+        articleSearchRepository.index(article);
+        if (article.isPublished()) {
+            articleFeedVersion.bump();
+        }
         
         log.info("更新文章成功，文章ID：{}", cmd.getArticleId());
     }
@@ -109,8 +176,12 @@ public class ArticleApplicationService {
         }
         
         // 4. 发布
+        boolean wasPublished = article.isPublished();
         article.publish();
+        article.renderContent(contentRenderer);
         articleRepository.save(article);
+        articleSearchRepository.index(article);
+        adjustPublishedCount(wasPublished, article);
         
         log.info("发布文章成功，文章ID：{}", articleId);
     }
@@ -134,12 +205,43 @@ public class ArticleApplicationService {
         }
         
         // 4. 取消发布
+        boolean wasPublished = article.isPublished();
         article.unpublish();
         articleRepository.save(article);
+        articleSearchRepository.index(article);
+        adjustPublishedCount(wasPublished, article);
         
         log.info("取消发布文章成功，文章ID：{}", articleId);
     }
     
+    /**
+     * 归档文章
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public void archiveArticle(Long articleId) {
+        // 1. 获取当前用户ID
+        Long currentUserId = StpUtil.getLoginIdAsLong();
+        UserId userId = UserId.of(currentUserId);
+        
+        // 2. 查询文章
+        Article article = articleRepository.findById(ArticleId.of(articleId))
+                .orElseThrow(() -> new BusinessException("文章不存在"));
+        
+        // 3. 校验作者权限
+        if (!article.isAuthor(userId)) {
+            throw new BusinessException("无权限操作此文章");
+        }
+        
+        // 4. 归档
+        boolean wasPublished = article.isPublished();
+        article.archive();
+        articleRepository.save(article);
+        articleSearchRepository.index(article);
+        adjustPublishedCount(wasPublished, article);
+        
+        log.info("归档文章成功，文章ID：{}", articleId);
+    }
+    
     /**
      * 删除文章
      */
@@ -160,6 +262,9 @@ public class ArticleApplicationService {
         
         // 4. 删除
         articleRepository.deleteById(ArticleId.of(articleId));
+        articleSearchRepository.remove(ArticleId.of(articleId));
+        articleCounterRepository.adjustAuthor(article.getAuthorId(), -1);
+        adjustPublishedCount(article.isPublished(), null);
         
         log.info("删除文章成功，文章ID：{}", articleId);
     }
@@ -168,35 +273,157 @@ public class ArticleApplicationService {
      * 获取文章详情
      */
     public ArticleDTO getArticleDetail(Long articleId) {
-        // 1. 查询文章
+        return getArticleDetail(articleId, false);
+    }
+    
+    /**
+     * 获取文章详情（html为true时返回渲染好的正文HTML，不返回原文）
+     */
+    public ArticleDTO getArticleDetail(Long articleId, boolean html) {
         Article article = articleRepository.findById(ArticleId.of(articleId))
                 .orElseThrow(() -> new BusinessException("文章不存在"));
+        return toDetailDTO(article, html);
+    }
+    
+    /**
+     * 根据slug获取文章详情
+     */
+    public ArticleDTO getArticleDetailBySlug(String slug, boolean html) {
+        Article article = articleRepository.findBySlug(Slug.of(slug))
+                .orElseThrow(() -> new BusinessException("文章不存在"));
+        return toDetailDTO(article, html);
+    }
+    
+    /**
+     * 组装文章详情：记录浏览量并转换为DTO
+     */
+    private ArticleDTO toDetailDTO(Article article, boolean html) {
+        // 1. 记录浏览量（写入计数缓冲，由后台批量落库），返回值包含未落库的增量
+        articleViewCounter.increment(article.getId());
+        article.setViews(article.getViews() + (int) articleViewCounter.pendingViews(article.getId()));
         
-        // 2. 增加浏览量
-        article.incrementViews();
-        articleRepository.save(article);
-        
-        // 3. 转换为DTO
-        return convertToDTO(article);
+        // 2. 转换为DTO
+        ArticleDTO dto = convertToDTO(article);
+        if (html) {
+            String contentHtml = articleContentHtmlRepository.findContentHtml(article);
+            // 不支持渲染的内容类型（如json）仍返回原文
+            if (contentHtml != null) {
+                dto.setContentHtml(contentHtml);
+                dto.setContent(null);
+            }
+        }
+        return dto;
+    }
+    
+    /**
+     * 获取文章版本信息（不组装详情、不计浏览量，用于条件请求校验）
+     */
+    public ArticleVersionDTO getArticleVersion(Long articleId) {
+        return articleRepository.findById(ArticleId.of(articleId))
+                .map(this::toVersionDTO)
+                .orElse(null);
+    }
+    
+    /**
+     * 根据slug获取文章版本信息
+     */
+    public ArticleVersionDTO getArticleVersionBySlug(String slug) {
+        return articleRepository.findBySlug(Slug.of(slug))
+                .map(this::toVersionDTO)
+                .orElse(null);
+    }
+    
+    private ArticleVersionDTO toVersionDTO(Article article) {
+        return ArticleVersionDTO.builder()
+                .id(article.getId().getValue())
+                .version(article.getVersion())
+                .updatedAt(article.getUpdatedAt())
+                .build();
+    }
+    
+    /**
+     * 获取已发布文章列表的版本
+     */
+    public long getFeedVersion() {
+        return articleFeedVersion.version();
+    }
+    
+    /**
+     * 获取已发布文章列表的最近变更时间（毫秒时间戳）
+     */
+    public long getFeedLastModified() {
+        return articleFeedVersion.lastModified();
     }
     
     /**
      * 获取已发布文章列表
      */
-    public PageResult<ArticleDTO> getPublishedArticles(int page, int size) {
-        // 1. 查询文章列表
-        List<Article> articles = articleRepository.findPublished(page, size);
-        Long total = articleRepository.countPublished();
+    public PageResult<ArticleDTO> getPublishedArticles(int page, int requestedSize) {
+        int size = clampPageSize(requestedSize);
         
-        // 2. 转换为DTO
-        List<ArticleDTO> articleDTOs = articles.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // 1. 派生列表查询，总数取自内存计数，在请求线程上直接读取
+        List<ArticleSummary> articles;
+        long total;
+        try (ConcurrentQueries.Scope scope = concurrentQueries.open()) {
+            ConcurrentQueries.Subtask<List<ArticleSummary>> pageTask =
+                    scope.fork(() -> articleRepository.findPublishedSummaries(page, size), pageTimeout);
+            total = articleCounterRepository.countPublished();
+            scope.join();
+            articles = pageTask.get();
+        }
+        
+        // 2. 转换为DTO（作者等关联数据依赖列表结果，在请求线程上批量加载）
+        List<ArticleDTO> articleDTOs = convertSummariesToDTO(articles);
         
         // 3. 返回分页结果
         return PageResult.of(articleDTOs, total, (long) page, (long) size);
     }
     
+    /**
+     * 游标方式获取已发布文章列表（按发布时间倒序，不统计总数）
+     */
+    public PageResult<ArticleDTO> getPublishedArticlesByCursor(String cursor, int requestedSize) {
+        int size = clampPageSize(requestedSize);
+        
+        // 1. 解析游标，多取一条用于判断是否还有下一页
+        ArticleCursor after = ArticleCursor.decode(cursor);
+        List<ArticleSummary> articles = after == null
+                ? articleRepository.findPublishedSummariesAfter(null, null, size + 1)
+                : articleRepository.findPublishedSummariesAfter(after.getPublishedAt(), after.getId(), size + 1);
+        
+        // 2. 计算下一页游标
+        String nextCursor = null;
+        if (articles.size() > size) {
+            articles = articles.subList(0, size);
+            ArticleSummary last = articles.get(size - 1);
+            nextCursor = new ArticleCursor(last.getPublishedAt(), last.getId()).encode();
+        }
+        
+        // 3. 转换为DTO并返回
+        return PageResult.ofCursor(convertSummariesToDTO(articles), (long) size, nextCursor);
+    }
+    
+    /**
+     * 全文检索已发布文章（按相关度排序）
+     */
+    public PageResult<ArticleDTO> searchArticles(String keyword, int page, int requestedSize) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new BusinessException(400, "搜索关键词不能为空");
+        }
+        int size = clampPageSize(requestedSize);
+        
+        // 1. 检索命中的文章ID（偏移量按long计算后截断，保证 offset + size 不溢出）
+        long offset = (long) Math.max(page - 1, 0) * size;
+        ArticleSearchResult result = articleSearchRepository.search(keyword.trim(),
+                (int) Math.min(offset, Integer.MAX_VALUE - size), size);
+        
+        // 2. 按命中顺序加载摘要（索引滞后时会过滤掉已不再发布的文章）
+        List<ArticleSummary> articles = articleRepository.findPublishedSummariesByIds(result.getArticleIds());
+        
+        // 3. 转换为DTO并返回
+        return PageResult.of(convertSummariesToDTO(articles), result.getTotal(), (long) page, (long) size);
+    }
+    
     /**
      * 获取当前用户的文章列表
      */
@@ -205,44 +432,83 @@ public class ArticleApplicationService {
         Long currentUserId = StpUtil.getLoginIdAsLong();
         UserId authorId = UserId.of(currentUserId);
         
-        // 2. 查询文章列表
-        List<Article> articles = articleRepository.findByAuthorId(authorId, page, size);
-        Long total = articleRepository.countByAuthorId(authorId);
+        // 2. 派生列表查询，总数取自内存计数，在请求线程上直接读取
+        List<ArticleSummary> articles;
+        long total;
+        try (ConcurrentQueries.Scope scope = concurrentQueries.open()) {
+            ConcurrentQueries.Subtask<List<ArticleSummary>> pageTask =
+                    scope.fork(() -> articleRepository.findSummariesByAuthorId(authorId, page, size), pageTimeout);
+            total = articleCounterRepository.countByAuthorId(authorId);
+            scope.join();
+            articles = pageTask.get();
+        }
         
         // 3. 转换为DTO
-        List<ArticleDTO> articleDTOs = articles.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        List<ArticleDTO> articleDTOs = convertSummariesToDTO(articles);
         
         // 4. 返回分页结果
         return PageResult.of(articleDTOs, total, (long) page, (long) size);
     }
     
+    /**
+     * 每页条数限制在 1~{@value #MAX_PAGE_SIZE}
+     */
+    private static int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+    
+    /**
+     * 根据状态变化调整已发布计数和列表版本（article为null表示已删除）
+     */
+    private void adjustPublishedCount(boolean wasPublished, Article article) {
+        boolean isPublished = article != null && article.isPublished();
+        if (wasPublished != isPublished) {
+            articleCounterRepository.adjustPublished(isPublished ? 1 : -1);
+        }
+        if (wasPublished || isPublished) {
+            articleFeedVersion.bump();
+        }
+    }
+    
+    /**
+     * 摘要列表转换为DTO（不含正文；作者、分类、标签各批量查询一次）
+     */
+    private List<ArticleDTO> convertSummariesToDTO(List<ArticleSummary> summaries) {
+        summaries.forEach(requestDataLoader::prime);
+        return summaries.stream()
+                .map(summary -> {
+                    UserDTO author = requestDataLoader.getUser(summary.getAuthorId());
+                    Category category = requestDataLoader.getCategory(summary.getCategoryId());
+                    return articleAssembler.toDTO(summary,
+                            author != null ? author.getUsername() : null,
+                            category != null ? category.getName() : null,
+                            getTagNames(summary.getTagIds()));
+                })
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 获取标签名称列表
+     */
+    private List<String> getTagNames(List<Long> tagIds) {
+        return requestDataLoader.getTags(tagIds).stream()
+                .map(Tag::getName)
+                .collect(Collectors.toList());
+    }
+    
     /**
      * 转换为DTO
      */
     private ArticleDTO convertToDTO(Article article) {
-        // 查询作者信息
-        UserDTO author = userApplicationService.getUserById(article.getAuthorId().getValue());
+        // 通过请求级加载器获取作者、分类、标签
+        requestDataLoader.prime(article);
+        UserDTO author = requestDataLoader.getUser(article.getAuthorId().getValue());
+        Category category = requestDataLoader.getCategory(article.getCategoryId());
+        List<String> tagNames = getTagNames(article.getTagIds());
         
-        return ArticleDTO.builder()
-                .id(article.getId().getValue())
-                .authorId(article.getAuthorId().getValue())
-                .authorName(author.getUsername())
-                .title(article.getTitle().getValue())
-                .slug(article.getSlug().getValue())
-                .summary(article.getSummary())
-                .cover(article.getCover())
-                .content(article.getContent())
-                .status(article.getStatus().getCode())
-                .categoryId(article.getCategoryId())
-                .tagIds(article.getTagIds())
-                .views(article.getViews())
-                .likes(article.getLikes())
-                .commentCount(article.getCommentCount())
-                .publishedAt(article.getPublishedAt())
-                .createdAt(article.getCreatedAt())
-                .updatedAt(article.getUpdatedAt())
-                .build();
+        return articleAssembler.toDTO(article,
+                author != null ? author.getUsername() : null,
+                category != null ? category.getName() : null,
+                tagNames);
     }
 }
@@ -0,0 +1,50 @@
+package com.echologue.application.article;
+
+import com.echologue.types.exception.BusinessException;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 文章列表游标：定位到 (publishedAt, id)，对外以不透明字符串传递
+ *
+ * @author Echologue
+ */
+@Value
+public class ArticleCursor {
+
+    private static final String SEPARATOR = "|";
+
+    LocalDateTime publishedAt;
+
+    Long id;
+
+    /**
+     * 编码为URL安全的字符串
+     */
+    public String encode() {
+        String raw = publishedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析游标，空字符串表示第一页（返回null）
+     */
+    public static ArticleCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(SEPARATOR);
+            LocalDateTime publishedAt = LocalDateTime.parse(raw.substring(0, index));
+            Long id = Long.parseLong(raw.substring(index + 1));
+            return new ArticleCursor(publishedAt, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException(400, "无效的分页游标");
+        }
+    }
+}
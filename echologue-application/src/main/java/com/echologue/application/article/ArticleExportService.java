@@ -0,0 +1,132 @@
+package com.echologue.application.article;
+
+import com.echologue.application.article.assembler.ArticleAssembler;
+import com.echologue.application.article.dto.ArticleDTO;
+import com.echologue.application.user.UserApplicationService;
+import com.echologue.application.user.dto.UserDTO;
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.repository.IArticleExportRepository;
+import com.echologue.domain.category.model.Category;
+import com.echologue.domain.category.model.Tag;
+import com.echologue.domain.category.repository.ICategoryRepository;
+import com.echologue.domain.category.repository.ITagRepository;
+import com.echologue.types.enums.ArticleStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 文章导出应用服务
+ * <p>
+ * 按批读取文章，每批的作者、分类、标签各批量查询一次后转换为DTO交给调用方写出；
+ * 不使用请求级加载器，已处理批次的数据不会在内存中累积。
+ *
+ * @author Echologue
+ */
+@Slf4j
+@Service
+public class ArticleExportService {
+
+    private final IArticleExportRepository articleExportRepository;
+    private final UserApplicationService userApplicationService;
+    private final ICategoryRepository categoryRepository;
+    private final ITagRepository tagRepository;
+    private final ArticleAssembler articleAssembler;
+
+    /**
+     * 每批文章数
+     */
+    private final int batchSize;
+
+    public ArticleExportService(IArticleExportRepository articleExportRepository,
+                                UserApplicationService userApplicationService,
+                                ICategoryRepository categoryRepository,
+                                ITagRepository tagRepository,
+                                ArticleAssembler articleAssembler,
+                                @Value("${echologue.article.export.batch-size:500}") int batchSize) {
+        this.articleExportRepository = articleExportRepository;
+        this.userApplicationService = userApplicationService;
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.articleAssembler = articleAssembler;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 解析导出状态（忽略首尾空白和大小写，为空表示全部）
+     * <p>
+     * 调用方需在写出响应头之前解析，未知状态抛出的异常才能按400返回，而不是出现在已开始的下载中。
+     */
+    public ArticleStatus parseStatus(String status) {
+        return status == null || status.isBlank() ? null : ArticleStatus.of(status.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * 导出文章（articleStatus为null表示全部），按ID顺序分批回调，返回导出的文章数
+     */
+    public long exportArticles(ArticleStatus articleStatus, Consumer<List<ArticleDTO>> consumer) {
+        long[] exported = {0L};
+        long start = System.currentTimeMillis();
+        articleExportRepository.forEachBatch(articleStatus, batchSize, articles -> {
+            consumer.accept(convertBatch(articles));
+            exported[0] += articles.size();
+        });
+        log.info("文章导出完成，状态：{}，文章数：{}，耗时：{}ms",
+                articleStatus, exported[0], System.currentTimeMillis() - start);
+        return exported[0];
+    }
+
+    private List<ArticleDTO> convertBatch(List<Article> articles) {
+        Set<Long> authorIds = new LinkedHashSet<>();
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        Set<Long> tagIds = new LinkedHashSet<>();
+        for (Article article : articles) {
+            authorIds.add(article.getAuthorId().getValue());
+            if (article.getCategoryId() != null) {
+                categoryIds.add(article.getCategoryId());
+            }
+            tagIds.addAll(article.getTagIds());
+        }
+
+        Map<Long, UserDTO> authors = userApplicationService.getUsersByIds(authorIds);
+        Map<Long, String> categoryNames = categoryIds.isEmpty() ? Map.of()
+                : categoryRepository.findByIds(new ArrayList<>(categoryIds)).stream()
+                        .collect(Collectors.toMap(Category::getId, Category::getName));
+        Map<Long, String> tagNames = tagIds.isEmpty() ? Map.of()
+                : tagRepository.findByIds(new ArrayList<>(tagIds)).stream()
+                        .collect(Collectors.toMap(Tag::getId, Tag::getName));
+
+        List<ArticleDTO> dtos = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            UserDTO author = authors.get(article.getAuthorId().getValue());
+            dtos.add(articleAssembler.toDTO(article,
+                    author != null ? author.getUsername() : null,
+                    article.getCategoryId() != null ? categoryNames.get(article.getCategoryId()) : null,
+                    tagNames(article.getTagIds(), tagNames)));
+        }
+        return dtos;
+    }
+
+    /**
+     * 按标签ID顺序取名称（忽略不存在的标签）
+     */
+    private static List<String> tagNames(List<Long> tagIds, Map<Long, String> tagNames) {
+        List<String> names = new ArrayList<>(tagIds.size());
+        for (Long id : tagIds) {
+            String name = tagNames.get(id);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,45 @@
+package com.echologue.application.article;
+
+import com.echologue.types.exception.BusinessException;
+
+import java.util.Locale;
+
+/**
+ * 文章导入文件格式（按文件扩展名识别）
+ *
+ * @author Echologue
+ */
+public enum ArticleImportFormat {
+
+    /**
+     * 每行一篇文章的JSON（.ndjson / .jsonl）
+     */
+    NDJSON,
+
+    /**
+     * gzip压缩的NDJSON（.ndjson.gz / .jsonl.gz，即导出接口的gzip输出）
+     */
+    NDJSON_GZIP,
+
+    /**
+     * Markdown文件的zip包（.zip，每个 .md 文件一篇，可带YAML front matter）
+     */
+    MARKDOWN_ZIP;
+
+    /**
+     * 根据文件名识别格式
+     */
+    public static ArticleImportFormat fromFilename(String filename) {
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        if (name.endsWith(".ndjson.gz") || name.endsWith(".jsonl.gz")) {
+            return NDJSON_GZIP;
+        }
+        if (name.endsWith(".zip")) {
+            return MARKDOWN_ZIP;
+        }
+        throw new BusinessException(400, "不支持的导入文件格式，请上传 .ndjson、.ndjson.gz 或 Markdown 的 .zip 包");
+    }
+}
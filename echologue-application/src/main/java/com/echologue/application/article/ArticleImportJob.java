@@ -0,0 +1,104 @@
+package com.echologue.application.article;
+
+import com.echologue.application.article.dto.ArticleImportProgressDTO;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 文章导入任务的进度（由导入线程和解析线程并发更新）
+ *
+ * @author Echologue
+ */
+final class ArticleImportJob {
+
+    /**
+     * 保留的错误信息条数
+     */
+    private static final int MAX_ERRORS = 100;
+
+    enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Getter
+    private final String id;
+
+    private final String filename;
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final long startNanos = System.nanoTime();
+
+    private final AtomicLong read = new AtomicLong();
+
+    private final AtomicLong imported = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final List<String> errors = new ArrayList<>();
+
+    @Getter
+    private volatile Status status = Status.RUNNING;
+
+    @Getter
+    private volatile LocalDateTime finishedAt;
+
+    private volatile long finishedNanos;
+
+    ArticleImportJob(String id, String filename) {
+        this.id = id;
+        this.filename = filename;
+    }
+
+    void addRead(long count) {
+        read.addAndGet(count);
+    }
+
+    void addImported(long count) {
+        imported.addAndGet(count);
+    }
+
+    /**
+     * 记录失败的记录数及原因
+     */
+    void addFailed(long count, String error) {
+        failed.addAndGet(count);
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(error);
+            }
+        }
+    }
+
+    void finish(Status status) {
+        this.finishedNanos = System.nanoTime();
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    ArticleImportProgressDTO toDTO() {
+        long end = status == Status.RUNNING ? System.nanoTime() : finishedNanos;
+        long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(end - startNanos));
+        List<String> errorsCopy;
+        synchronized (errors) {
+            errorsCopy = new ArrayList<>(errors);
+        }
+        return ArticleImportProgressDTO.builder()
+                .jobId(id)
+                .filename(filename)
+                .status(status.name())
+                .read(read.get())
+                .imported(imported.get())
+                .failed(failed.get())
+                .articlesPerMinute(imported.get() * 60_000L / elapsedMillis)
+                .errors(errorsCopy)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
@@ -0,0 +1,221 @@
+package com.echologue.application.article;
+
+import cn.hutool.core.util.StrUtil;
+import com.echologue.application.article.dto.ArticleImportRecord;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 导入记录解析器（线程安全，供并行解析使用）
+ * <p>
+ * NDJSON按导出格式反序列化；Markdown文件读取YAML front matter（兼容Hexo/Jekyll/Hugo常用字段），
+ * 没有标题时取正文开头的一级标题，再没有时取文件名；没有slug时取文件名（去掉日期前缀）。
+ *
+ * @author Echologue
+ */
+final class ArticleImportParser {
+
+    private static final Pattern FRONT_MATTER = Pattern.compile(
+            "\\A---[ \\t]*\\r?\\n(.*?)^(?:---|\\.\\.\\.)[ \\t]*(?:\\r?\\n|\\z)", Pattern.DOTALL | Pattern.MULTILINE);
+
+    private static final Pattern LEADING_HEADING = Pattern.compile("\\A\\s*#[ \\t]+(.+?)[ \\t#]*(?:\\r?\\n|\\z)");
+
+    private static final Pattern DATE_PREFIX = Pattern.compile("^\\d{4}-\\d{1,2}-\\d{1,2}-");
+
+    private final ObjectReader recordReader;
+
+    ArticleImportParser(ObjectMapper objectMapper) {
+        this.recordReader = objectMapper.readerFor(ArticleImportRecord.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * 解析一条原始记录，格式错误时抛出 IllegalArgumentException
+     */
+    ArticleImportRecord parse(ArticleImportReader.Entry entry) {
+        if (entry.error() != null) {
+            throw new IllegalArgumentException(entry.error());
+        }
+        if (entry.name() == null) {
+            try {
+                return recordReader.readValue(entry.text());
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON格式错误：" + e.getOriginalMessage());
+            }
+        }
+        return parseMarkdown(entry.name(), entry.text());
+    }
+
+    private ArticleImportRecord parseMarkdown(String path, String text) {
+        if (text.startsWith("\uFEFF")) {
+            text = text.substring(1);
+        }
+        Map<String, Object> meta = Collections.emptyMap();
+        String body = text;
+        Matcher frontMatter = FRONT_MATTER.matcher(text);
+        if (frontMatter.lookingAt()) {
+            meta = loadYaml(frontMatter.group(1));
+            body = text.substring(frontMatter.end());
+        }
+
+        ArticleImportRecord record = new ArticleImportRecord();
+        String title = string(meta, "title");
+        if (StrUtil.isBlank(title)) {
+            Matcher heading = LEADING_HEADING.matcher(body);
+            if (heading.lookingAt()) {
+                // 一级标题作为文章标题，正文中不再重复
+                title = heading.group(1);
+                body = body.substring(heading.end());
+            } else {
+                title = fileStem(path);
+            }
+        }
+        record.setTitle(title);
+        record.setSlug(StrUtil.blankToDefault(string(meta, "slug"), fileStem(path)));
+        record.setSummary(string(meta, "summary", "description", "excerpt"));
+        record.setCover(string(meta, "cover", "image"));
+        record.setContent(body.replaceFirst("\\A(?:[ \\t]*\\r?\\n)+", ""));
+        record.setContentType("markdown");
+        record.setStatus(status(meta));
+        List<String> categories = strings(meta, "category", "categories");
+        record.setCategoryName(categories.isEmpty() ? null : categories.get(0));
+        record.setTagNames(strings(meta, "tags"));
+        record.setPublishedAt(dateTime(meta, "date", "publishedat", "published_at"));
+        record.setCreatedAt(dateTime(meta, "created", "createdat", "created_at"));
+        return record;
+    }
+
+    /**
+     * 解析front matter，键统一转为小写
+     */
+    private static Map<String, Object> loadYaml(String yaml) {
+        Object loaded;
+        try {
+            loaded = new Yaml(new SafeConstructor(new LoaderOptions())).load(yaml);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("front matter格式错误：" + e.getMessage());
+        }
+        if (!(loaded instanceof Map<?, ?> map)) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> meta = new HashMap<>(map.size() * 2);
+        map.forEach((key, value) -> meta.put(String.valueOf(key).toLowerCase(Locale.ROOT), value));
+        return meta;
+    }
+
+    /**
+     * 状态：status字段优先，其次 draft（Hugo）、published（Jekyll）；都没有时返回null（由导入参数决定）
+     */
+    private static String status(Map<String, Object> meta) {
+        String status = string(meta, "status");
+        if (status != null) {
+            return status;
+        }
+        Object draft = meta.get("draft");
+        if (draft instanceof Boolean value) {
+            return value ? "DRAFT" : "PUBLISHED";
+        }
+        Object published = meta.get("published");
+        if (published instanceof Boolean value) {
+            return value ? "PUBLISHED" : "DRAFT";
+        }
+        return null;
+    }
+
+    private static String string(Map<String, Object> meta, String... keys) {
+        for (String key : keys) {
+            Object value = meta.get(key);
+            if (value != null && !(value instanceof Collection<?>) && !(value instanceof Map<?, ?>)) {
+                String text = String.valueOf(value).trim();
+                if (!text.isEmpty()) {
+                    return text;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 列表字段，兼容YAML列表和逗号分隔的字符串
+     */
+    private static List<String> strings(Map<String, Object> meta, String... keys) {
+        List<String> values = new ArrayList<>();
+        for (String key : keys) {
+            Object value = meta.get(key);
+            if (value instanceof Collection<?> collection) {
+                for (Object item : collection) {
+                    if (item != null && StrUtil.isNotBlank(String.valueOf(item))) {
+                        values.add(String.valueOf(item).trim());
+                    }
+                }
+            } else if (value != null) {
+                for (String item : StrUtil.splitTrim(String.valueOf(value), ',')) {
+                    values.add(item);
+                }
+            }
+            if (!values.isEmpty()) {
+                break;
+            }
+        }
+        return values;
+    }
+
+    private static LocalDateTime dateTime(Map<String, Object> meta, String... keys) {
+        for (String key : keys) {
+            Object value = meta.get(key);
+            if (value instanceof Date date) {
+                // SnakeYAML把不带时区的时间按UTC解析，这里还原为字面时间
+                return LocalDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC);
+            }
+            if (value != null && StrUtil.isNotBlank(String.valueOf(value))) {
+                return parseDateTime(String.valueOf(value).trim());
+            }
+        }
+        return null;
+    }
+
+    private static LocalDateTime parseDateTime(String text) {
+        try {
+            if (text.length() <= 10) {
+                return LocalDate.parse(text).atStartOfDay();
+            }
+            return LocalDateTime.parse(text.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("无法识别的日期：" + text);
+        }
+    }
+
+    /**
+     * 文件名（不含扩展名和日期前缀）；index.md 取所在目录名
+     */
+    private static String fileStem(String path) {
+        String[] segments = path.split("/");
+        String filename = segments[segments.length - 1];
+        int dot = filename.lastIndexOf('.');
+        String stem = dot > 0 ? filename.substring(0, dot) : filename;
+        if ("index".equalsIgnoreCase(stem) && segments.length > 1) {
+            stem = segments[segments.length - 2];
+        }
+        return DATE_PREFIX.matcher(stem).replaceFirst("");
+    }
+}
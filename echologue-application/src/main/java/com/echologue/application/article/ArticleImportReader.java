@@ -0,0 +1,202 @@
+package com.echologue.application.article;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 导入文件读取器：按顺序分块读出原始记录（NDJSON的一行或zip中的一个Markdown文件），不做解析
+ * <p>
+ * 单条记录不超过 {@value #MAX_ENTRY_BYTES} 字节，超出的记录只读到上限为止、其余部分跳过，作为失败记录返回；
+ * 每块按条数和字节数两者限制，内存占用与文件大小无关。
+ *
+ * @author Echologue
+ */
+final class ArticleImportReader implements Closeable {
+
+    /**
+     * 单条记录（NDJSON的一行或一个Markdown文件）的大小上限（字节）
+     */
+    static final int MAX_ENTRY_BYTES = 16 * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int INITIAL_LINE_SIZE = 8 * 1024;
+
+    /**
+     * 原始记录
+     *
+     * @param source 来源描述（行号或文件路径），用于错误信息
+     * @param name   文件路径（NDJSON为null）
+     * @param text   内容，读取失败时为null
+     * @param error  读取失败原因
+     * @param bytes  读入内存的字节数
+     */
+    record Entry(String source, String name, String text, String error, int bytes) {
+    }
+
+    private final InputStream lineInput;
+
+    private final ZipInputStream zip;
+
+    private final byte[] buffer;
+
+    private int position;
+
+    private int limit;
+
+    /**
+     * 当前行内容（按需扩容，不超过单条上限）
+     */
+    private byte[] line;
+
+    private long lineNumber;
+
+    private ArticleImportReader(InputStream lineInput, ZipInputStream zip) {
+        this.lineInput = lineInput;
+        this.zip = zip;
+        this.buffer = lineInput != null ? new byte[BUFFER_SIZE] : null;
+        this.line = lineInput != null ? new byte[INITIAL_LINE_SIZE] : null;
+    }
+
+    static ArticleImportReader open(Path file, ArticleImportFormat format) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        try {
+            return switch (format) {
+                case NDJSON -> new ArticleImportReader(in, null);
+                case NDJSON_GZIP -> new ArticleImportReader(new GZIPInputStream(in, BUFFER_SIZE), null);
+                case MARKDOWN_ZIP -> new ArticleImportReader(null,
+                        new ZipInputStream(new BufferedInputStream(in, BUFFER_SIZE), StandardCharsets.UTF_8));
+            };
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 读取至多 max 条记录，累计字节数达到 maxBytes 时提前结束（至少一条），读完时返回空列表
+     */
+    List<Entry> next(int max, long maxBytes) throws IOException {
+        List<Entry> entries = new ArrayList<>(Math.min(max, 1024));
+        long bytes = 0;
+        while (entries.size() < max && bytes < maxBytes) {
+            Entry entry = zip != null ? nextMarkdown() : nextLine();
+            if (entry == null) {
+                break;
+            }
+            entries.add(entry);
+            bytes += entry.bytes();
+        }
+        return entries;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (zip != null) {
+            zip.close();
+        } else {
+            lineInput.close();
+        }
+    }
+
+    private Entry nextLine() throws IOException {
+        int length;
+        while ((length = readLine()) >= 0) {
+            lineNumber++;
+            String source = "第" + lineNumber + "行";
+            if (length > MAX_ENTRY_BYTES) {
+                return new Entry(source, null, null, "单行超过" + (MAX_ENTRY_BYTES >> 20) + "MB", MAX_ENTRY_BYTES);
+            }
+            String text = new String(line, 0, length, StandardCharsets.UTF_8);
+            if (!text.isBlank()) {
+                return new Entry(source, null, text, null, length);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 读取一行到 line（不含换行符），返回行长度；超过上限时只保留上限内的内容并返回 MAX_ENTRY_BYTES + 1，
+     * 文件结束时返回-1
+     */
+    private int readLine() throws IOException {
+        int length = 0;
+        boolean truncated = false;
+        boolean empty = true;
+        while (true) {
+            if (position == limit) {
+                limit = Math.max(lineInput.read(buffer), 0);
+                position = 0;
+                if (limit == 0) {
+                    return empty ? -1 : truncated ? MAX_ENTRY_BYTES + 1 : length;
+                }
+            }
+            empty = false;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            int count = position - start;
+            if (!truncated && length + count > MAX_ENTRY_BYTES) {
+                truncated = true;
+            }
+            if (!truncated) {
+                ensureLineCapacity(length + count);
+                System.arraycopy(buffer, start, line, length, count);
+                length += count;
+            }
+            if (position < limit) {
+                position++;
+                if (truncated) {
+                    return MAX_ENTRY_BYTES + 1;
+                }
+                return length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+            }
+        }
+    }
+
+    private void ensureLineCapacity(int capacity) {
+        if (capacity > line.length) {
+            line = Arrays.copyOf(line, (int) Math.min(Math.max((long) line.length * 2, capacity), MAX_ENTRY_BYTES));
+        }
+    }
+
+    private Entry nextMarkdown() throws IOException {
+        ZipEntry zipEntry;
+        while ((zipEntry = zip.getNextEntry()) != null) {
+            String name = zipEntry.getName();
+            if (zipEntry.isDirectory() || !isMarkdown(name)) {
+                continue;
+            }
+            byte[] bytes = zip.readNBytes(MAX_ENTRY_BYTES + 1);
+            if (bytes.length > MAX_ENTRY_BYTES) {
+                return new Entry(name, name, null, "文件超过" + (MAX_ENTRY_BYTES >> 20) + "MB", bytes.length);
+            }
+            return new Entry(name, name, new String(bytes, StandardCharsets.UTF_8), null, bytes.length);
+        }
+        return null;
+    }
+
+    /**
+     * Markdown文件，跳过隐藏文件和macOS压缩时附带的元数据目录
+     */
+    private static boolean isMarkdown(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        String filename = lower.substring(lower.lastIndexOf('/') + 1);
+        return (lower.endsWith(".md") || lower.endsWith(".markdown"))
+                && !filename.startsWith(".")
+                && !lower.startsWith("__macosx/");
+    }
+}
@@ -0,0 +1,476 @@
+package com.echologue.application.article;
+
+import cn.dev33.satoken.stp.StpUtil;
+import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.StrUtil;
+import com.echologue.application.article.dto.ArticleImportProgressDTO;
+import com.echologue.application.article.dto.ArticleImportRecord;
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.model.Slug;
+import com.echologue.domain.article.model.Title;
+import com.echologue.domain.article.repository.IArticleCounterRepository;
+import com.echologue.domain.article.repository.IArticleFeedVersion;
+import com.echologue.domain.article.repository.IArticleImportRepository;
+import com.echologue.domain.article.repository.IArticleSearchRepository;
+import com.echologue.domain.article.service.IContentRenderer;
+import com.echologue.domain.category.model.Category;
+import com.echologue.domain.category.model.Tag;
+import com.echologue.domain.category.repository.ICategoryRepository;
+import com.echologue.domain.category.repository.ITagRepository;
+import com.echologue.domain.user.model.UserId;
+import com.echologue.types.enums.ArticleStatus;
+import com.echologue.types.exception.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 文章批量导入应用服务
+ * <p>
+ * 导入在后台任务中执行，同一时间只运行一个任务，调用方凭任务ID查询进度。
+ * 文件按批读取，每批在解析线程池中并行完成解析、slug生成和正文渲染，
+ * 同时导入线程把上一批以JDBC批量语句写入数据库（每批一个事务）。
+ * 每批按条数和原始字节数两者限制，单条记录不超过16MB；同一时间最多有两批（正在解析的和正在写入的）在内存中，
+ * 内存占用约为两批原始内容及其解析、渲染结果之和，与文件大小无关。
+ * 解析失败的记录跳过并计入失败数；slug在查重后被其他请求占用时，整批换用新后缀重试；
+ * 其他写入失败时整批计入失败，其余批次继续导入。
+ *
+ * @author Echologue
+ */
+@Slf4j
+@Service
+public class ArticleImportService {
+
+    private static final int MAX_SUMMARY_LENGTH = 500;
+
+    private static final int MAX_COVER_LENGTH = 255;
+
+    private static final int MAX_SLUG_LENGTH = 200;
+
+    /**
+     * 写入时slug冲突的重试次数
+     */
+    private static final int MAX_SLUG_RETRIES = 3;
+
+    private final IArticleImportRepository articleImportRepository;
+    private final IArticleCounterRepository articleCounterRepository;
+    private final IArticleFeedVersion articleFeedVersion;
+    private final IArticleSearchRepository articleSearchRepository;
+    private final IContentRenderer contentRenderer;
+    private final ICategoryRepository categoryRepository;
+    private final ITagRepository tagRepository;
+    private final ArticleImportParser parser;
+
+    /**
+     * 每批文章数（一个事务、一组批量语句）
+     */
+    private final int batchSize;
+
+    /**
+     * 每批原始内容的字节数上限
+     */
+    private final long batchBytes;
+
+    /**
+     * 已结束任务的保留时间（毫秒）
+     */
+    private final long jobRetentionMillis;
+
+    private final int parallelism;
+
+    /**
+     * 解析与渲染线程池
+     */
+    private final ExecutorService parsePool;
+
+    /**
+     * 导入任务线程
+     */
+    private final ExecutorService jobExecutor;
+
+    private final Map<String, ArticleImportJob> jobs = new ConcurrentHashMap<>();
+
+    private final AtomicReference<ArticleImportJob> running = new AtomicReference<>();
+
+    public ArticleImportService(IArticleImportRepository articleImportRepository,
+                                IArticleCounterRepository articleCounterRepository,
+                                IArticleFeedVersion articleFeedVersion,
+                                IArticleSearchRepository articleSearchRepository,
+                                IContentRenderer contentRenderer,
+                                ICategoryRepository categoryRepository,
+                                ITagRepository tagRepository,
+                                ObjectMapper objectMapper,
+                                @Value("${echologue.article.import.batch-size:1000}") int batchSize,
+                                @Value("${echologue.article.import.batch-bytes:33554432}") long batchBytes,
+                                @Value("${echologue.article.import.parallelism:0}") int parallelism,
+                                @Value("${echologue.article.import.job-retention:3600000}") long jobRetentionMillis) {
+        this.articleImportRepository = articleImportRepository;
+        this.articleCounterRepository = articleCounterRepository;
+        this.articleFeedVersion = articleFeedVersion;
+        this.articleSearchRepository = articleSearchRepository;
+        this.contentRenderer = contentRenderer;
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.parser = new ArticleImportParser(objectMapper);
+        this.batchSize = batchSize;
+        this.batchBytes = batchBytes;
+        this.jobRetentionMillis = jobRetentionMillis;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.parsePool = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "article-import-parser-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.jobExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "article-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 启动导入任务，立即返回任务进度
+     * <p>
+     * 文件由任务接管，导入结束（或启动失败）后删除；作者为当前登录用户。
+     *
+     * @param filename      原始文件名，用于识别格式
+     * @param file          上传内容的临时文件
+     * @param defaultStatus 记录未指定状态时使用的状态，为空表示草稿
+     */
+    public ArticleImportProgressDTO startImport(String filename, Path file, String defaultStatus) {
+        ArticleImportJob job;
+        try {
+            ArticleImportFormat format = ArticleImportFormat.fromFilename(filename);
+            ArticleStatus fallbackStatus = StrUtil.isBlank(defaultStatus) ? ArticleStatus.DRAFT : parseStatus(defaultStatus);
+            UserId authorId = UserId.of(StpUtil.getLoginIdAsLong());
+
+            pruneFinishedJobs();
+            job = new ArticleImportJob(IdUtil.fastSimpleUUID(), filename);
+            if (!running.compareAndSet(null, job)) {
+                throw new BusinessException(429, "已有导入任务在运行，请稍后再试");
+            }
+            jobs.put(job.getId(), job);
+            try {
+                jobExecutor.execute(() -> run(job, file, format, authorId, fallbackStatus));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.getId());
+                running.set(null);
+                throw new BusinessException(503, "导入服务已关闭");
+            }
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+        log.info("文章导入任务启动，任务ID：{}，文件：{}", job.getId(), filename);
+        return job.toDTO();
+    }
+
+    /**
+     * 查询导入进度
+     */
+    public ArticleImportProgressDTO getProgress(String jobId) {
+        ArticleImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BusinessException(404, "导入任务不存在或已过期");
+        }
+        return job.toDTO();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        parsePool.shutdownNow();
+    }
+
+    /**
+     * 执行导入：读取第 n+1 批并提交解析后，再写入已解析完的第 n 批，解析与写库重叠进行
+     */
+    private void run(ArticleImportJob job, Path file, ArticleImportFormat format,
+                     UserId authorId, ArticleStatus fallbackStatus) {
+        ArticleImportJob.Status status = ArticleImportJob.Status.FAILED;
+        boolean published = false;
+        try (ArticleImportReader reader = ArticleImportReader.open(file, format)) {
+            Function<ArticleImportRecord, Article> converter = articleConverter(authorId, fallbackStatus);
+            Set<String> usedSlugs = new HashSet<>();
+            CompletableFuture<List<Article>> inFlight = null;
+            List<ArticleImportReader.Entry> chunk;
+            while (!(chunk = reader.next(batchSize, batchBytes)).isEmpty()) {
+                job.addRead(chunk.size());
+                CompletableFuture<List<Article>> parsing = parseAsync(job, chunk, converter);
+                if (inFlight != null) {
+                    published |= write(job, inFlight.join(), authorId, usedSlugs);
+                }
+                inFlight = parsing;
+            }
+            if (inFlight != null) {
+                published |= write(job, inFlight.join(), authorId, usedSlugs);
+            }
+            status = ArticleImportJob.Status.COMPLETED;
+        } catch (Exception e) {
+            log.error("文章导入任务中止，任务ID：{}", job.getId(), e);
+            job.addFailed(0, "导入中止：" + oneLine(ExceptionUtil.getRootCauseMessage(e)));
+        } finally {
+            if (published) {
+                articleFeedVersion.bump();
+            }
+            job.finish(status);
+            running.set(null);
+            deleteQuietly(file);
+            ArticleImportProgressDTO progress = job.toDTO();
+            log.info("文章导入任务结束，任务ID：{}，状态：{}，读取：{}，导入：{}，失败：{}，速度：{}篇/分钟",
+                    job.getId(), status, progress.getRead(), progress.getImported(), progress.getFailed(),
+                    progress.getArticlesPerMinute());
+        }
+    }
+
+    /**
+     * 按线程数切分一批记录并行解析，结果保持原顺序；失败的记录计入任务并被丢弃
+     */
+    private CompletableFuture<List<Article>> parseAsync(ArticleImportJob job, List<ArticleImportReader.Entry> chunk,
+                                                        Function<ArticleImportRecord, Article> converter) {
+        int sliceSize = (chunk.size() + parallelism - 1) / parallelism;
+        List<CompletableFuture<List<Article>>> slices = new ArrayList<>(parallelism);
+        for (int from = 0; from < chunk.size(); from += sliceSize) {
+            List<ArticleImportReader.Entry> slice = chunk.subList(from, Math.min(from + sliceSize, chunk.size()));
+            slices.add(CompletableFuture.supplyAsync(() -> {
+                List<Article> articles = new ArrayList<>(slice.size());
+                for (ArticleImportReader.Entry entry : slice) {
+                    try {
+                        articles.add(converter.apply(parser.parse(entry)));
+                    } catch (RuntimeException e) {
+                        String message = StrUtil.blankToDefault(e.getMessage(), e.getClass().getSimpleName());
+                        job.addFailed(1, entry.source() + "：" + oneLine(message));
+                    }
+                }
+                return articles;
+            }, parsePool));
+        }
+        return CompletableFuture.allOf(slices.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            List<Article> articles = new ArrayList<>(chunk.size());
+            slices.forEach(slice -> articles.addAll(slice.join()));
+            return articles;
+        });
+    }
+
+    /**
+     * 写入一批文章，返回是否包含已发布文章
+     */
+    private boolean write(ArticleImportJob job, List<Article> articles, UserId authorId, Set<String> usedSlugs) {
+        if (articles.isEmpty()) {
+            return false;
+        }
+        // 同一任务内去重，再与库中已有的slug去重（冲突时追加随机后缀）
+        for (Article article : articles) {
+            while (!usedSlugs.add(article.getSlug().getValue())) {
+                article.setSlug(article.getSlug().withRandomSuffix());
+            }
+        }
+        resuffixTakenSlugs(articles, usedSlugs);
+
+        // 查询与写入之间slug可能被其他请求占用，整批回滚后换用新后缀重试
+        int attempt = 0;
+        while (true) {
+            try {
+                articleImportRepository.insertAll(articles);
+                break;
+            } catch (DuplicateKeyException e) {
+                if (++attempt > MAX_SLUG_RETRIES) {
+                    return failBatch(job, articles, e);
+                }
+                log.warn("文章导入批次slug冲突，重试第{}次，任务ID：{}", attempt, job.getId());
+                resuffixTakenSlugs(articles, usedSlugs);
+            } catch (RuntimeException e) {
+                return failBatch(job, articles, e);
+            }
+        }
+
+        int publishedCount = 0;
+        for (Article article : articles) {
+            if (article.isPublished()) {
+                articleSearchRepository.index(article);
+                publishedCount++;
+            }
+        }
+        articleCounterRepository.adjustAuthor(authorId, articles.size());
+        articleCounterRepository.adjustPublished(publishedCount);
+        job.addImported(articles.size());
+        return publishedCount > 0;
+    }
+
+    /**
+     * 为库中已被占用的slug追加随机后缀
+     */
+    private void resuffixTakenSlugs(List<Article> articles, Set<String> usedSlugs) {
+        List<String> slugs = articles.stream().map(article -> article.getSlug().getValue()).toList();
+        Set<String> existing = articleImportRepository.findExistingSlugs(slugs);
+        if (existing.isEmpty()) {
+            return;
+        }
+        for (Article article : articles) {
+            if (existing.contains(article.getSlug().getValue())) {
+                Slug slug;
+                do {
+                    slug = article.getSlug().withRandomSuffix();
+                } while (!usedSlugs.add(slug.getValue()));
+                article.setSlug(slug);
+            }
+        }
+    }
+
+    /**
+     * 整批计入失败
+     */
+    private static boolean failBatch(ArticleImportJob job, List<Article> articles, RuntimeException e) {
+        log.error("文章导入批次写入失败，任务ID：{}，文章数：{}", job.getId(), articles.size(), e);
+        job.addFailed(articles.size(), "从《" + articles.get(0).getTitle().getValue() + "》开始的"
+                + articles.size() + "篇写入失败：" + oneLine(ExceptionUtil.getRootCauseMessage(e)));
+        return false;
+    }
+
+    /**
+     * 记录转换为新文章（在解析线程中执行，分类/标签按任务开始时的快照匹配，不存在的忽略）
+     */
+    private Function<ArticleImportRecord, Article> articleConverter(UserId authorId, ArticleStatus fallbackStatus) {
+        Map<String, Long> categoryIdsByName = new HashMap<>();
+        Set<Long> categoryIds = new HashSet<>();
+        for (Category category : categoryRepository.findAll()) {
+            categoryIdsByName.put(category.getName().toLowerCase(Locale.ROOT), category.getId());
+            categoryIds.add(category.getId());
+        }
+        Map<String, Long> tagIdsByName = new HashMap<>();
+        Set<Long> tagIds = new HashSet<>();
+        for (Tag tag : tagRepository.findAll()) {
+            tagIdsByName.put(tag.getName().toLowerCase(Locale.ROOT), tag.getId());
+            tagIds.add(tag.getId());
+        }
+
+        return record -> {
+            Title title = Title.of(record.getTitle());
+            if (record.getSummary() != null && record.getSummary().length() > MAX_SUMMARY_LENGTH) {
+                throw new IllegalArgumentException("摘要长度不能超过" + MAX_SUMMARY_LENGTH + "个字符");
+            }
+            if (record.getCover() != null && record.getCover().length() > MAX_COVER_LENGTH) {
+                throw new IllegalArgumentException("封面图地址长度不能超过" + MAX_COVER_LENGTH + "个字符");
+            }
+
+            Article article = Article.create(authorId, title, StrUtil.nullToEmpty(record.getContent()));
+            article.setSlug(resolveSlug(record.getSlug(), title.getValue()));
+            article.setSummary(record.getSummary());
+            article.setCover(record.getCover());
+            if (StrUtil.isNotBlank(record.getContentType())) {
+                article.setContentType(record.getContentType());
+            }
+
+            if (StrUtil.isNotBlank(record.getCategoryName())) {
+                article.setCategoryId(categoryIdsByName.get(record.getCategoryName().toLowerCase(Locale.ROOT)));
+            } else if (record.getCategoryId() != null && categoryIds.contains(record.getCategoryId())) {
+                article.setCategoryId(record.getCategoryId());
+            }
+            Set<Long> articleTagIds = new LinkedHashSet<>();
+            if (record.getTagNames() != null && !record.getTagNames().isEmpty()) {
+                for (String name : record.getTagNames()) {
+                    Long tagId = tagIdsByName.get(name.toLowerCase(Locale.ROOT));
+                    if (tagId != null) {
+                        articleTagIds.add(tagId);
+                    }
+                }
+            } else if (record.getTagIds() != null) {
+                for (Long tagId : record.getTagIds()) {
+                    if (tagIds.contains(tagId)) {
+                        articleTagIds.add(tagId);
+                    }
+                }
+            }
+            article.setTagIds(new ArrayList<>(articleTagIds));
+
+            ArticleStatus status = StrUtil.isBlank(record.getStatus()) ? fallbackStatus : parseStatus(record.getStatus());
+            article.setStatus(status);
+            if (status == ArticleStatus.PUBLISHED) {
+                article.setPublishedAt(record.getPublishedAt() != null ? record.getPublishedAt() : LocalDateTime.now());
+            } else if (status == ArticleStatus.ARCHIVED) {
+                article.setPublishedAt(record.getPublishedAt());
+            }
+            if (record.getCreatedAt() != null) {
+                article.setCreatedAt(record.getCreatedAt());
+            }
+            article.renderContent(contentRenderer);
+            return article;
+        };
+    }
+
+    /**
+     * 合法的slug原样使用，否则规整为slug；都为空时由标题生成
+     */
+    private static Slug resolveSlug(String slug, String title) {
+        if (StrUtil.isBlank(slug)) {
+            return Slug.fromText(title);
+        }
+        if (slug.length() <= MAX_SLUG_LENGTH) {
+            try {
+                return Slug.of(slug);
+            } catch (IllegalArgumentException e) {
+                // 按文本规整
+            }
+        }
+        return Slug.fromText(slug);
+    }
+
+    /**
+     * 单行、限长的错误信息
+     */
+    private static String oneLine(String message) {
+        return StrUtil.maxLength(message.replaceAll("\\s+", " ").trim(), 200);
+    }
+
+    private static ArticleStatus parseStatus(String status) {
+        return ArticleStatus.of(status.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * 清理超过保留时间的已结束任务
+     */
+    private void pruneFinishedJobs() {
+        LocalDateTime expireBefore = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(jobRetentionMillis));
+        jobs.values().removeIf(job -> {
+            if (job.getStatus() == ArticleImportJob.Status.RUNNING) {
+                return false;
+            }
+            return job.getFinishedAt() != null && job.getFinishedAt().isBefore(expireBefore);
+        });
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("删除导入临时文件失败：{}", file, e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.echologue.application.article.assembler;
+
+import com.echologue.application.article.dto.ArticleDTO;
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.model.ArticleSummary;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.util.List;
+
+/**
+ * 文章DTO装配器（编译期生成实现）
+ * <p>
+ * 作者名、分类名、标签名由调用方通过请求级加载器批量获取后传入。
+ *
+ * @author Echologue
+ */
+@Mapper(componentModel = "spring")
+public interface ArticleAssembler {
+
+    /**
+     * 聚合转DTO（正文HTML按需单独填充）
+     */
+    @Mapping(target = "id", source = "article.id.value")
+    @Mapping(target = "authorId", source = "article.authorId.value")
+    @Mapping(target = "title", source = "article.title.value")
+    @Mapping(target = "slug", source = "article.slug.value")
+    @Mapping(target = "status", source = "article.status.code")
+    @Mapping(target = "tagIds", source = "article.tagIds", qualifiedByName = "sameList")
+    @Mapping(target = "authorName", source = "authorName")
+    @Mapping(target = "categoryName", source = "categoryName")
+    @Mapping(target = "tagNames", source = "tagNames", qualifiedByName = "sameList")
+    @Mapping(target = "contentHtml", ignore = true)
+    ArticleDTO toDTO(Article article, String authorName, String categoryName, List<String> tagNames);
+
+    /**
+     * 摘要读模型转DTO（不含正文）
+     */
+    @Mapping(target = "status", source = "summary.status.code")
+    @Mapping(target = "tagIds", source = "summary.tagIds", qualifiedByName = "sameList")
+    @Mapping(target = "authorName", source = "authorName")
+    @Mapping(target = "categoryName", source = "categoryName")
+    @Mapping(target = "tagNames", source = "tagNames", qualifiedByName = "sameList")
+    @Mapping(target = "content", ignore = true)
+    @Mapping(target = "contentType", ignore = true)
+    @Mapping(target = "contentHtml", ignore = true)
+    ArticleDTO toDTO(ArticleSummary summary, String authorName, String categoryName, List<String> tagNames);
+
+    /**
+     * 列表直接引用，不复制
+     */
+    @Named("sameList")
+    default <T> List<T> sameList(List<T> list) {
+        return list;
+    }
+}
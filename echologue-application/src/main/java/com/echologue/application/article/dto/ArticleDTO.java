@@ -55,6 +55,16 @@ public class ArticleDTO {
      */
     private String content;
     
+    /**
+     * 内容类型
+     */
+    private String contentType;
+    
+    /**
+     * 正文HTML（请求HTML格式时返回）
+     */
+    private String contentHtml;
+    
     /**
      * 状态
      */
@@ -65,11 +75,21 @@ public class ArticleDTO {
      */
     private Long categoryId;
     
+    /**
+     * 分类名称
+     */
+    private String categoryName;
+    
     /**
      * 标签ID列表
      */
     private List<Long> tagIds;
     
+    /**
+     * 标签名称列表
+     */
+    private List<String> tagNames;
+    
     /**
      * 浏览量
      */
@@ -0,0 +1,67 @@
+package com.echologue.application.article.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 文章导入任务进度
+ *
+ * @author Echologue
+ */
+@Data
+@Builder
+public class ArticleImportProgressDTO {
+    
+    /**
+     * 任务ID
+     */
+    private String jobId;
+    
+    /**
+     * 文件名
+     */
+    private String filename;
+    
+    /**
+     * 状态：RUNNING/COMPLETED/FAILED
+     */
+    private String status;
+    
+    /**
+     * 已读取的记录数
+     */
+    private long read;
+    
+    /**
+     * 已写入的文章数
+     */
+    private long imported;
+    
+    /**
+     * 失败的记录数
+     */
+    private long failed;
+    
+    /**
+     * 导入速度（篇/分钟）
+     */
+    private long articlesPerMinute;
+    
+    /**
+     * 错误信息（最多保留前100条）
+     */
+    private List<String> errors;
+    
+    /**
+     * 开始时间
+     */
+    private LocalDateTime startedAt;
+    
+    /**
+     * 结束时间
+     */
+    private LocalDateTime finishedAt;
+}
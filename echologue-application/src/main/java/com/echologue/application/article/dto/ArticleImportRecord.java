@@ -0,0 +1,83 @@
+package com.echologue.application.article.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 导入的文章记录（NDJSON中的一行或一个Markdown文件）
+ * <p>
+ * 字段与导出格式一致，导出文件可以直接导入；作者为执行导入的用户，ID、计数等字段忽略。
+ * 分类、标签优先按名称匹配，没有名称时按ID匹配。
+ *
+ * @author Echologue
+ */
+@Data
+public class ArticleImportRecord {
+    
+    /**
+     * 标题
+     */
+    private String title;
+    
+    /**
+     * URL别名（为空时由文件名或标题生成）
+     */
+    private String slug;
+    
+    /**
+     * 摘要
+     */
+    private String summary;
+    
+    /**
+     * 封面图
+     */
+    private String cover;
+    
+    /**
+     * 内容
+     */
+    private String content;
+    
+    /**
+     * 内容类型（默认markdown）
+     */
+    private String contentType;
+    
+    /**
+     * 状态（默认草稿）
+     */
+    private String status;
+    
+    /**
+     * 分类ID
+     */
+    private Long categoryId;
+    
+    /**
+     * 分类名称
+     */
+    private String categoryName;
+    
+    /**
+     * 标签ID列表
+     */
+    private List<Long> tagIds;
+    
+    /**
+     * 标签名称列表
+     */
+    private List<String> tagNames;
+    
+    /**
+     * 发布时间（已发布文章为空时取导入时间）
+     */
+    private LocalDateTime publishedAt;
+    
+    /**
+     * 创建时间（为空时取导入时间）
+     */
+    private LocalDateTime createdAt;
+}
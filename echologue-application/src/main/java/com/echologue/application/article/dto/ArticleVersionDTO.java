@@ -0,0 +1,31 @@
+package com.echologue.application.article.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文章版本信息（用于条件请求校验）
+ *
+ * @author Echologue
+ */
+@Data
+@Builder
+public class ArticleVersionDTO {
+    
+    /**
+     * 文章ID
+     */
+    private Long id;
+    
+    /**
+     * 版本号
+     */
+    private Integer version;
+    
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+}
@@ -1,5 +1,6 @@
 package com.echologue.application.category;
 
+import com.echologue.domain.article.repository.IArticleFeedVersion;
 import com.echologue.domain.category.model.Category;
 import com.echologue.domain.category.repository.ICategoryRepository;
 import com.echologue.types.exception.BusinessException;
@@ -20,7 +21,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CategoryApplicationService {
     
+    /**
+     * 联想结果数量上限
+     */
+    private static final int MAX_SUGGEST_LIMIT = 50;
+    
     private final ICategoryRepository categoryRepository;
+    private final IArticleFeedVersion articleFeedVersion;
     
     /**
      * 创建分类
@@ -49,6 +56,8 @@ public class CategoryApplicationService {
         
         category.update(name, slug, description);
         categoryRepository.save(category);
+        // 文章列表展示分类名称
+        articleFeedVersion.bump();
         
         log.info("更新分类成功，分类ID：{}", id);
     }
@@ -59,6 +68,7 @@ public class CategoryApplicationService {
     @Transactional(rollbackFor = Exception.class)
     public void deleteCategory(Long id) {
         categoryRepository.deleteById(id);
+        articleFeedVersion.bump();
         log.info("删除分类成功，分类ID：{}", id);
     }
     
@@ -69,6 +79,13 @@ public class CategoryApplicationService {
         return categoryRepository.findAll();
     }
     
+    /**
+     * 按名称前缀联想分类（按文章数量降序，前缀为空时返回文章最多的分类）
+     */
+    public List<Category> suggestCategories(String prefix, int limit) {
+        return categoryRepository.suggestByName(prefix, Math.min(Math.max(limit, 1), MAX_SUGGEST_LIMIT));
+    }
+    
     /**
      * 根据ID查询分类
      */
@@ -76,4 +93,12 @@ public class CategoryApplicationService {
         return categoryRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("分类不存在"));
     }
+    
+    /**
+     * 根据slug查询分类
+     */
+    public Category getCategoryBySlug(String slug) {
+        return categoryRepository.findBySlug(slug)
+                .orElseThrow(() -> new BusinessException("分类不存在"));
+    }
 }
@@ -1,5 +1,6 @@
 package com.echologue.application.category;
 
+import com.echologue.domain.article.repository.IArticleFeedVersion;
 import com.echologue.domain.category.model.Tag;
 import com.echologue.domain.category.repository.ITagRepository;
 import com.echologue.types.exception.BusinessException;
@@ -20,7 +21,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TagApplicationService {
     
+    /**
+     * 联想结果数量上限
+     */
+    private static final int MAX_SUGGEST_LIMIT = 50;
+    
     private final ITagRepository tagRepository;
+    private final IArticleFeedVersion articleFeedVersion;
     
     /**
      * 创建标签
@@ -49,6 +56,8 @@ public class TagApplicationService {
         
         tag.update(name, slug);
         tagRepository.save(tag);
+        // 文章列表展示标签名称
+        articleFeedVersion.bump();
         
         log.info("更新标签成功，标签ID：{}", id);
     }
@@ -59,6 +68,7 @@ public class TagApplicationService {
     @Transactional(rollbackFor = Exception.class)
     public void deleteTag(Long id) {
         tagRepository.deleteById(id);
+        articleFeedVersion.bump();
         log.info("删除标签成功，标签ID：{}", id);
     }
     
@@ -69,6 +79,13 @@ public class TagApplicationService {
         return tagRepository.findAll();
     }
     
+    /**
+     * 按名称前缀联想标签（按文章数量降序，前缀为空时返回文章最多的标签）
+     */
+    public List<Tag> suggestTags(String prefix, int limit) {
+        return tagRepository.suggestByName(prefix, Math.min(Math.max(limit, 1), MAX_SUGGEST_LIMIT));
+    }
+    
     /**
      * 根据ID查询标签
      */
@@ -77,6 +94,14 @@ public class TagApplicationService {
                 .orElseThrow(() -> new BusinessException("标签不存在"));
     }
     
+    /**
+     * 根据slug查询标签
+     */
+    public Tag getTagBySlug(String slug) {
+        return tagRepository.findBySlug(slug)
+                .orElseThrow(() -> new BusinessException("标签不存在"));
+    }
+    
     /**
      * 根据ID列表查询标签
      */
@@ -0,0 +1,152 @@
+package com.echologue.application.common;
+
+import com.echologue.types.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 并发查询
+ * <p>
+ * 在作用域内派生若干互不依赖的查询并发执行，等待全部完成后再读取结果，总耗时取决于最慢的查询。
+ * 每个查询有各自的超时；任一查询失败或超时立即结束等待，原异常原样抛出，超时抛出错误码504的业务异常。
+ * 查询在应用任务执行器上运行（virtual 配置下为虚拟线程），执行器拒绝时在调用线程上执行。
+ * <p>
+ * 已开始执行的查询无法通过取消 Future 中断（JDBC读取不响应线程中断），数据库查询需在语句上设置 queryTimeout，
+ * 超时后由驱动取消语句并归还连接；这里不另开事务，避免查询开始前就占用连接。
+ * 只应派生真正访问数据库的查询，内存中的计数等直接在调用线程上读取。作用域关闭时，尚未开始的查询不再执行。
+ * <p>
+ * 查询在其他线程执行，不能访问请求作用域的对象和登录上下文，需要的参数应在派生前取好。
+ *
+ * @author Echologue
+ */
+@Component
+public class ConcurrentQueries {
+
+    private final Executor executor;
+
+    public ConcurrentQueries(@Qualifier("applicationTaskExecutor") Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 打开作用域（配合try-with-resources使用）
+     */
+    public Scope open() {
+        return new Scope(executor);
+    }
+
+    /**
+     * 查询作用域
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Executor executor;
+
+        private final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+
+        private Scope(Executor executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * 派生查询
+         */
+        public <T> Subtask<T> fork(Supplier<T> supplier, Duration timeout) {
+            CompletableFuture<T> future;
+            try {
+                future = CompletableFuture.supplyAsync(supplier, executor);
+            } catch (RejectedExecutionException e) {
+                future = new CompletableFuture<>();
+                try {
+                    future.complete(supplier.get());
+                } catch (RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                }
+            }
+            future = future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            future.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    firstFailure.completeExceptionally(ex);
+                }
+            });
+            futures.add(future);
+            return new Subtask<>(future);
+        }
+
+        /**
+         * 等待全部查询完成，任一失败时立即抛出
+         */
+        public void join() {
+            CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+            try {
+                CompletableFuture.anyOf(all, firstFailure).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException("查询被中断");
+            } catch (ExecutionException e) {
+                throw propagate(e.getCause());
+            }
+        }
+
+        /**
+         * 结束作用域：尚未开始的查询不再执行，执行中的查询由语句超时终止
+         */
+        @Override
+        public void close() {
+            futures.forEach(future -> future.cancel(false));
+        }
+
+        private static RuntimeException propagate(Throwable cause) {
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof TimeoutException) {
+                return new BusinessException(504, "查询超时，请稍后重试");
+            }
+            if (cause instanceof CancellationException cancellation) {
+                return cancellation;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            return new BusinessException("查询失败", cause);
+        }
+    }
+
+    /**
+     * 派生的查询，作用域 join 成功后才能读取结果
+     */
+    public static final class Subtask<T> {
+
+        private final CompletableFuture<T> future;
+
+        private Subtask(CompletableFuture<T> future) {
+            this.future = future;
+        }
+
+        /**
+         * 查询结果
+         */
+        public T get() {
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                throw new IllegalStateException("查询未成功完成，需先调用 join");
+            }
+            return future.join();
+        }
+    }
+}
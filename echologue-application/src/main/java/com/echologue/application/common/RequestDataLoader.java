@@ -0,0 +1,153 @@
+package com.echologue.application.common;
+
+import com.echologue.application.user.UserApplicationService;
+import com.echologue.application.user.dto.UserDTO;
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.model.ArticleSummary;
+import com.echologue.domain.category.model.Category;
+import com.echologue.domain.category.model.Tag;
+import com.echologue.domain.category.repository.ICategoryRepository;
+import com.echologue.domain.category.repository.ITagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 请求级批量加载器（DataLoader）
+ * <p>
+ * 先通过 {@code load*}/{@link #prime(Article)} 登记本次请求需要的用户、分类、标签ID，
+ * 首次读取时每个聚合只发起一次批量查询，结果在请求内缓存，后续读取不再访问数据库。
+ * 仅在请求线程内使用。
+ *
+ * @author Echologue
+ */
+@Component
+@Scope(value = "request", proxyMode = ScopedProxyMode.TARGET_CLASS)
+@RequiredArgsConstructor
+public class RequestDataLoader {
+
+    private final UserApplicationService userApplicationService;
+    private final ICategoryRepository categoryRepository;
+    private final ITagRepository tagRepository;
+
+    private final Batch<UserDTO> users = new Batch<>();
+    private final Batch<Category> categories = new Batch<>();
+    private final Batch<Tag> tags = new Batch<>();
+
+    /**
+     * 登记文章引用的作者、分类、标签
+     */
+    public void prime(Article article) {
+        loadUser(article.getAuthorId().getValue());
+        loadCategory(article.getCategoryId());
+        loadTags(article.getTagIds());
+    }
+
+    /**
+     * 登记文章摘要引用的作者、分类、标签
+     */
+    public void prime(ArticleSummary summary) {
+        loadUser(summary.getAuthorId());
+        loadCategory(summary.getCategoryId());
+        loadTags(summary.getTagIds());
+    }
+
+    /**
+     * 登记用户ID
+     */
+    public void loadUser(Long userId) {
+        users.enqueue(userId);
+    }
+
+    /**
+     * 登记分类ID
+     */
+    public void loadCategory(Long categoryId) {
+        categories.enqueue(categoryId);
+    }
+
+    /**
+     * 登记标签ID
+     */
+    public void loadTags(Collection<Long> tagIds) {
+        if (tagIds != null) {
+            tagIds.forEach(tags::enqueue);
+        }
+    }
+
+    /**
+     * 获取用户，不存在时返回null
+     */
+    public UserDTO getUser(Long userId) {
+        return users.get(userId, userApplicationService::getUsersByIds);
+    }
+
+    /**
+     * 获取分类，不存在时返回null
+     */
+    public Category getCategory(Long categoryId) {
+        return categories.get(categoryId, ids -> categoryRepository.findByIds(ids).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity())));
+    }
+
+    /**
+     * 获取标签列表（按传入顺序，忽略不存在的标签）
+     */
+    public List<Tag> getTags(Collection<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        loadTags(tagIds);
+        return tagIds.stream()
+                .map(id -> tags.get(id, ids -> tagRepository.findByIds(ids).stream()
+                        .collect(Collectors.toMap(Tag::getId, Function.identity()))))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 单个聚合的待加载ID与已加载结果
+     */
+    private static class Batch<V> {
+
+        private final Set<Long> pending = new LinkedHashSet<>();
+        private final Map<Long, V> loaded = new HashMap<>();
+
+        void enqueue(Long id) {
+            if (id != null && !loaded.containsKey(id)) {
+                pending.add(id);
+            }
+        }
+
+        V get(Long id, Function<List<Long>, Map<Long, V>> batchFn) {
+            if (id == null) {
+                return null;
+            }
+            if (!loaded.containsKey(id)) {
+                pending.add(id);
+                dispatch(batchFn);
+            }
+            return loaded.get(id);
+        }
+
+        private void dispatch(Function<List<Long>, Map<Long, V>> batchFn) {
+            List<Long> ids = new ArrayList<>(pending);
+            pending.clear();
+            Map<Long, V> result = batchFn.apply(ids);
+            // 不存在的ID也记录下来，避免重复查询
+            ids.forEach(id -> loaded.put(id, result.get(id)));
+        }
+    }
+}
@@ -1,17 +1,26 @@
 package com.echologue.application.user;
 
 import cn.dev33.satoken.stp.StpUtil;
+import com.echologue.application.user.dto.UserAvailabilityDTO;
 import com.echologue.application.user.dto.UserDTO;
 import com.echologue.application.user.dto.UserLoginCmd;
 import com.echologue.application.user.dto.UserRegisterCmd;
 import com.echologue.domain.user.model.*;
 import com.echologue.domain.user.repository.IUserRepository;
+import com.echologue.domain.user.service.IPasswordHasher;
 import com.echologue.types.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 用户应用服务
  *
@@ -23,6 +32,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserApplicationService {
     
     private final IUserRepository userRepository;
+    private final IPasswordHasher passwordHasher;
     
     /**
      * 用户注册
@@ -42,16 +52,41 @@ public class UserApplicationService {
         }
         
         // 2. 创建用户聚合
-        Password password = Password.create(cmd.getPassword());
+        Password password = passwordHasher.hash(cmd.getPassword());
         User user = User.register(username, email, password);
         
-        // 3. 保存用户
-        User savedUser = userRepository.save(user);
+        // 3. 保存用户（并发注册同名时由唯一索引兜底）
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException("用户名或邮箱已被注册");
+        }
         
         log.info("用户注册成功，用户ID：{}", savedUser.getId().getValue());
         return savedUser.getId().getValue();
     }
     
+    /**
+     * 检查用户名、邮箱是否可用（参数为空时不检查）
+     */
+    public UserAvailabilityDTO checkAvailability(String username, String email) {
+        Boolean usernameAvailable = null;
+        if (username != null && !username.isEmpty()) {
+            usernameAvailable = !userRepository.existsByUsername(Username.of(username));
+        }
+        
+        Boolean emailAvailable = null;
+        if (email != null && !email.isEmpty()) {
+            emailAvailable = !userRepository.existsByEmail(Email.of(email));
+        }
+        
+        return UserAvailabilityDTO.builder()
+                .usernameAvailable(usernameAvailable)
+                .emailAvailable(emailAvailable)
+                .build();
+    }
+    
     /**
      * 用户登录
      */
@@ -67,11 +102,16 @@ public class UserApplicationService {
         }
         
         // 3. 校验密码
-        if (!user.authenticate(cmd.getPassword())) {
+        if (!user.authenticate(cmd.getPassword(), passwordHasher)) {
             throw new BusinessException("邮箱或密码错误");
         }
         
-        // 4. 生成Token
+        // 4. 成本因子与配置不一致时重新加密，失败不影响本次登录
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            rehashPassword(user, cmd.getPassword());
+        }
+        
+        // 5. 生成Token
         Long userId = user.getId().getValue();
         StpUtil.login(userId);
         String token = StpUtil.getTokenValue();
@@ -87,22 +127,32 @@ public class UserApplicationService {
         // 1. 从Sa-Token获取当前用户ID
         Long userId = StpUtil.getLoginIdAsLong();
         
-        // 2. 查询用户信息
-        User user = userRepository.findById(UserId.of(userId))
+        // 2. 查询用户资料（缓存）
+        UserProfile profile = userRepository.findProfileById(UserId.of(userId))
                 .orElseThrow(() -> new BusinessException("用户不存在"));
         
         // 3. 转换为DTO
-        return convertToDTO(user);
+        return convertToDTO(profile);
     }
     
     /**
      * 根据ID获取用户信息
      */
     public UserDTO getUserById(Long userId) {
-        User user = userRepository.findById(UserId.of(userId))
+        UserProfile profile = userRepository.findProfileById(UserId.of(userId))
                 .orElseThrow(() -> new BusinessException("用户不存在"));
         
-        return convertToDTO(user);
+        return convertToDTO(profile);
+    }
+    
+    /**
+     * 根据ID列表批量获取用户信息（缓存未命中的ID一次查询）
+     */
+    public Map<Long, UserDTO> getUsersByIds(Collection<Long> userIds) {
+        List<UserId> ids = userIds.stream().map(UserId::of).collect(Collectors.toList());
+        return userRepository.findProfilesByIds(ids).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toMap(UserDTO::getId, Function.identity()));
     }
     
     /**
@@ -113,18 +163,33 @@ public class UserApplicationService {
         log.info("用户退出登录");
     }
     
+    /**
+     * 按当前成本因子重新加密并保存
+     */
+    private void rehashPassword(User user, String rawPassword) {
+        int oldCost = user.getPassword().cost();
+        try {
+            user.changePassword(passwordHasher.hash(rawPassword));
+            userRepository.save(user);
+            log.info("用户密码已重新加密，用户ID：{}，成本因子：{} -> {}",
+                    user.getId().getValue(), oldCost, user.getPassword().cost());
+        } catch (Exception e) {
+            log.warn("用户密码重新加密失败，下次登录重试，用户ID：{}", user.getId().getValue(), e);
+        }
+    }
+    
     /**
      * 转换为DTO
      */
-    private UserDTO convertToDTO(User user) {
+    private UserDTO convertToDTO(UserProfile profile) {
         return UserDTO.builder()
-                .id(user.getId().getValue())
-                .username(user.getUsername().getValue())
-                .email(user.getEmail().getValue())
-                .avatar(user.getAvatar())
-                .bio(user.getBio())
-                .status(user.getStatus().getCode())
-                .createdAt(user.getCreatedAt())
+                .id(profile.getId())
+                .username(profile.getUsername())
+                .email(profile.getEmail())
+                .avatar(profile.getAvatar())
+                .bio(profile.getBio())
+                .status(profile.getStatus())
+                .createdAt(profile.getCreatedAt())
                 .build();
     }
 }
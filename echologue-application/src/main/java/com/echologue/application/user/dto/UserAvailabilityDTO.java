@@ -0,0 +1,24 @@
+package com.echologue.application.user.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 用户名/邮箱可用性DTO（未传入的字段为null）
+ *
+ * @author Echologue
+ */
+@Data
+@Builder
+public class UserAvailabilityDTO {
+    
+    /**
+     * 用户名是否可用
+     */
+    private Boolean usernameAvailable;
+    
+    /**
+     * 邮箱是否可用
+     */
+    private Boolean emailAvailable;
+}
@@ -0,0 +1,65 @@
+package com.echologue.benchmarks;
+
+import com.echologue.domain.article.model.Article;
+import com.echologue.infrastructure.persistence.converter.ArticlePOConverter;
+import com.echologue.infrastructure.persistence.po.ArticlePO;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 仓储层 PO 与聚合互转：{@link ArticlePOConverter}
+ *
+ * @author Echologue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleConversionBenchmark {
+
+    /**
+     * 正文长度（字符），转换只复制引用，理论上与长度无关
+     */
+    @Param({"256", "16384"})
+    public int contentLength;
+
+    private final ArticlePOConverter converter = Mappers.getMapper(ArticlePOConverter.class);
+
+    private ArticlePO po;
+
+    private List<Long> tagIds;
+
+    private Article article;
+
+    @Setup
+    public void setup() {
+        po = BenchmarkFixtures.article(42L, contentLength);
+        tagIds = BenchmarkFixtures.tagIds(42L);
+        article = converter.toDomain(po, tagIds);
+    }
+
+    @Benchmark
+    public Article poToDomain() {
+        return converter.toDomain(po, tagIds);
+    }
+
+    @Benchmark
+    public ArticlePO domainToPo() {
+        return converter.toPO(article);
+    }
+}
@@ -0,0 +1,169 @@
+package com.echologue.benchmarks;
+
+import com.echologue.application.article.assembler.ArticleAssembler;
+import com.echologue.application.article.dto.ArticleDTO;
+import com.echologue.application.common.RequestDataLoader;
+import com.echologue.application.user.dto.UserDTO;
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.model.ArticleSummary;
+import com.echologue.domain.category.model.Category;
+import com.echologue.domain.category.model.Tag;
+import com.echologue.infrastructure.persistence.converter.ArticlePOConverter;
+import com.echologue.infrastructure.persistence.po.ArticlePO;
+import com.echologue.infrastructure.persistence.po.ArticleSummaryPO;
+import com.echologue.interfaces.assembler.ArticleResponseAssembler;
+import com.echologue.interfaces.dto.response.ArticleDetailResponse;
+import com.echologue.interfaces.dto.response.ArticleListResponse;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 读路径完整映射链：PO → 聚合 → DTO → 响应
+ * <p>
+ * 作者、分类、标签由内存仓储提供，加载器在多次调用间复用，只衡量对象复制本身的开销。
+ * DTO一步按应用服务的转换方式组合请求级加载器和 {@link ArticleAssembler}，各层映射均使用公开的 MapStruct 映射器。
+ *
+ * @author Echologue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArticleMappingChainBenchmark {
+
+    /**
+     * 列表页大小
+     */
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private final ArticlePOConverter converter = Mappers.getMapper(ArticlePOConverter.class);
+
+    private final ArticleResponseAssembler responseAssembler = Mappers.getMapper(ArticleResponseAssembler.class);
+
+    private final ArticleAssembler articleAssembler = Mappers.getMapper(ArticleAssembler.class);
+
+    private RequestDataLoader dataLoader;
+
+    private ArticlePO detailPo;
+
+    private List<ArticlePO> pagePos;
+
+    private List<List<Long>> pageTagIds;
+
+    private List<ArticleSummary> pageSummaries;
+
+    @Setup
+    public void setup() {
+        dataLoader = BenchmarkFixtures.inMemoryDataLoader();
+        detailPo = BenchmarkFixtures.article(1L, 8192);
+        pagePos = new ArrayList<>(pageSize);
+        pageTagIds = new ArrayList<>(pageSize);
+        pageSummaries = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            ArticlePO po = BenchmarkFixtures.article(id, 8192);
+            pagePos.add(po);
+            pageTagIds.add(BenchmarkFixtures.tagIds(id));
+            pageSummaries.add(converter.toSummary(summaryPo(po), BenchmarkFixtures.tagIds(id)));
+        }
+    }
+
+    /**
+     * 详情：单篇文章走完整链路
+     */
+    @Benchmark
+    public ArticleDetailResponse detailChain() {
+        Article article = converter.toDomain(detailPo, BenchmarkFixtures.tagIds(1L));
+        ArticleDTO dto = toDTO(article);
+        return responseAssembler.toDetailResponse(dto);
+    }
+
+    /**
+     * 列表：每行先组装完整聚合再转换（列表投影之前的路径）
+     */
+    @Benchmark
+    public List<ArticleListResponse> listChainViaAggregate() {
+        List<ArticleListResponse> responses = new ArrayList<>(pagePos.size());
+        for (int i = 0; i < pagePos.size(); i++) {
+            Article article = converter.toDomain(pagePos.get(i), pageTagIds.get(i));
+            responses.add(responseAssembler.toListResponse(toDTO(article)));
+        }
+        return responses;
+    }
+
+    /**
+     * 列表：经列表投影 {@link ArticleSummary} 转换（当前路径）
+     */
+    @Benchmark
+    public List<ArticleListResponse> listChainViaSummary() {
+        pageSummaries.forEach(dataLoader::prime);
+        List<ArticleListResponse> responses = new ArrayList<>(pageSummaries.size());
+        for (ArticleSummary summary : pageSummaries) {
+            UserDTO author = dataLoader.getUser(summary.getAuthorId());
+            Category category = dataLoader.getCategory(summary.getCategoryId());
+            ArticleDTO dto = articleAssembler.toDTO(summary,
+                    author != null ? author.getUsername() : null,
+                    category != null ? category.getName() : null,
+                    tagNames(summary.getTagIds()));
+            responses.add(responseAssembler.toListResponse(dto));
+        }
+        return responses;
+    }
+
+    /**
+     * 聚合转DTO，作者、分类、标签经请求级加载器获取
+     */
+    private ArticleDTO toDTO(Article article) {
+        dataLoader.prime(article);
+        UserDTO author = dataLoader.getUser(article.getAuthorId().getValue());
+        Category category = dataLoader.getCategory(article.getCategoryId());
+        return articleAssembler.toDTO(article,
+                author != null ? author.getUsername() : null,
+                category != null ? category.getName() : null,
+                tagNames(article.getTagIds()));
+    }
+
+    private List<String> tagNames(List<Long> tagIds) {
+        List<Tag> tags = dataLoader.getTags(tagIds);
+        List<String> names = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            names.add(tag.getName());
+        }
+        return names;
+    }
+
+    private static ArticleSummaryPO summaryPo(ArticlePO po) {
+        ArticleSummaryPO summaryPo = new ArticleSummaryPO();
+        summaryPo.setId(po.getId());
+        summaryPo.setAuthorId(po.getAuthorId());
+        summaryPo.setTitle(po.getTitle());
+        summaryPo.setSlug(po.getSlug());
+        summaryPo.setSummary(po.getSummary());
+        summaryPo.setCover(po.getCover());
+        summaryPo.setStatus(po.getStatus());
+        summaryPo.setCategoryId(po.getCategoryId());
+        summaryPo.setViews(po.getViews());
+        summaryPo.setLikes(po.getLikes());
+        summaryPo.setCommentCount(po.getCommentCount());
+        summaryPo.setPublishedAt(po.getPublishedAt());
+        summaryPo.setCreatedAt(po.getCreatedAt());
+        summaryPo.setUpdatedAt(po.getUpdatedAt());
+        return summaryPo;
+    }
+}
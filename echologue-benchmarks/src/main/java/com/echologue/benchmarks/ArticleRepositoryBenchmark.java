@@ -0,0 +1,236 @@
+package com.echologue.benchmarks;
+
+import com.baomidou.mybatisplus.autoconfigure.MybatisPlusAutoConfiguration;
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.model.ArticleId;
+import com.echologue.domain.article.model.ArticleSummary;
+import com.echologue.domain.article.model.Slug;
+import com.echologue.domain.article.repository.IArticleRepository;
+import com.echologue.infrastructure.config.MetaObjectHandlerConfig;
+import com.echologue.infrastructure.config.MybatisPlusConfig;
+import com.echologue.infrastructure.persistence.converter.ArticlePOConverterImpl;
+import com.echologue.infrastructure.persistence.po.ArticlePO;
+import com.echologue.infrastructure.persistence.repository.ArticleRepositoryImpl;
+import com.echologue.infrastructure.persistence.repository.ArticleSlugIndex;
+import com.echologue.infrastructure.persistence.repository.CachedArticleRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 文章仓储端到端：MyBatis-Plus + 嵌入式 H2（MySQL 兼容模式）
+ * <p>
+ * 启动只包含数据源、事务和文章仓储的精简 Spring 上下文，表结构见 {@code benchmark-schema.sql}。
+ * H2 与 MySQL 的绝对耗时不可直接比较，这里关注同一环境下不同查询路径的相对差异和版本间回归。
+ *
+ * @author Echologue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArticleRepositoryBenchmark {
+
+    /**
+     * 内存库在最后一个连接关闭后仍保留（DB_CLOSE_DELAY=-1），上下文启动前后共用同一份数据
+     */
+    private static final String JDBC_URL =
+            "jdbc:h2:mem:echologue;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    /**
+     * 预置文章数
+     */
+    @Param({"2000"})
+    public int articles;
+
+    /**
+     * 正文长度（字符），影响整行查询与列表投影的差距
+     */
+    @Param({"8192"})
+    public int contentLength;
+
+    private ConfigurableApplicationContext context;
+
+    private ArticleRepositoryImpl repository;
+
+    private IArticleRepository cachedRepository;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // 表结构和预置数据在上下文启动前写入，slug索引启动时即可加载完整映射
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(JDBC_URL, "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("benchmark-schema.sql")).execute(dataSource);
+        seed(new JdbcTemplate(dataSource));
+
+        context = new SpringApplicationBuilder(RepositoryContext.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=" + JDBC_URL,
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "mybatis-plus.configuration.map-underscore-to-camel-case=true",
+                        "logging.level.root=WARN")
+                .run();
+        repository = context.getBean(ArticleRepositoryImpl.class);
+        cachedRepository = context.getBean(CachedArticleRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 按ID查询：文章行 + 标签关联
+     */
+    @Benchmark
+    public Article findById() {
+        return repository.findById(ArticleId.of(randomId())).orElseThrow();
+    }
+
+    /**
+     * 按ID查询（带本地缓存）
+     */
+    @Benchmark
+    public Article findByIdCached() {
+        return cachedRepository.findById(ArticleId.of(randomId())).orElseThrow();
+    }
+
+    /**
+     * 按slug查询（唯一索引）
+     */
+    @Benchmark
+    public Article findBySlug() {
+        return repository.findBySlug(Slug.of("benchmark-article-" + randomId())).orElseThrow();
+    }
+
+    /**
+     * 按slug查询（slug索引 + 本地缓存）
+     */
+    @Benchmark
+    public Article findBySlugCached() {
+        return cachedRepository.findBySlug(Slug.of("benchmark-article-" + randomId())).orElseThrow();
+    }
+
+    /**
+     * 列表：读取整行（含正文）并组装聚合
+     */
+    @Benchmark
+    public List<Article> findPublished() {
+        return repository.findPublished(randomPage(), 10);
+    }
+
+    /**
+     * 列表：列表投影（不读正文，不做COUNT）
+     */
+    @Benchmark
+    public List<ArticleSummary> findPublishedSummaries() {
+        return repository.findPublishedSummaries(randomPage(), 10);
+    }
+
+    /**
+     * 列表：游标分页首屏
+     */
+    @Benchmark
+    public List<ArticleSummary> findPublishedSummariesFirstPage() {
+        return repository.findPublishedSummariesAfter(null, null, 10);
+    }
+
+    /**
+     * 总数查询
+     */
+    @Benchmark
+    public Long countPublished() {
+        return repository.countPublished();
+    }
+
+    /**
+     * 部分更新：只修改摘要，只写被修改的列
+     */
+    @Benchmark
+    public Article updateSummary() {
+        Article article = repository.findById(ArticleId.of(randomId())).orElseThrow();
+        article.setSummary("更新于 " + System.nanoTime());
+        return repository.save(article);
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(articles) + 1;
+    }
+
+    private int randomPage() {
+        return ThreadLocalRandom.current().nextInt(articles / 10) + 1;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>(articles);
+        List<Object[]> tagRows = new ArrayList<>(articles * BenchmarkFixtures.TAGS_PER_ARTICLE);
+        for (long id = 1; id <= articles; id++) {
+            ArticlePO po = BenchmarkFixtures.article(id, contentLength);
+            rows.add(new Object[]{po.getId(), po.getAuthorId(), po.getTitle(), po.getSlug(), po.getSummary(),
+                    po.getCover(), po.getContent(), po.getContentType(), po.getStatus(), po.getCategoryId(),
+                    po.getViews(), po.getLikes(), po.getCommentCount(), Timestamp.valueOf(po.getPublishedAt()),
+                    Timestamp.valueOf(po.getCreatedAt()), Timestamp.valueOf(po.getUpdatedAt()), po.getVersion()});
+            for (Long tagId : BenchmarkFixtures.tagIds(id)) {
+                tagRows.add(new Object[]{id, tagId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO article (id, author_id, title, slug, summary, cover, content, "
+                + "content_type, status, category_id, views, likes, comment_count, published_at, created_at, "
+                + "updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.batchUpdate("INSERT INTO article_tag (article_id, tag_id) VALUES (?, ?)", tagRows);
+    }
+
+    /**
+     * 精简上下文：数据源、事务、MyBatis-Plus 与文章仓储
+     */
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            TransactionAutoConfiguration.class,
+            MybatisPlusAutoConfiguration.class
+    })
+    @Import({
+            MybatisPlusConfig.class,
+            MetaObjectHandlerConfig.class,
+            ArticlePOConverterImpl.class,
+            ArticleRepositoryImpl.class,
+            ArticleSlugIndex.class,
+            CachedArticleRepository.class
+    })
+    static class RepositoryContext {
+    }
+}
@@ -0,0 +1,174 @@
+package com.echologue.benchmarks;
+
+import com.echologue.application.common.RequestDataLoader;
+import com.echologue.application.user.UserApplicationService;
+import com.echologue.domain.category.model.Category;
+import com.echologue.domain.category.model.Tag;
+import com.echologue.domain.category.repository.ICategoryRepository;
+import com.echologue.domain.category.repository.ITagRepository;
+import com.echologue.domain.user.model.UserId;
+import com.echologue.domain.user.model.UserProfile;
+import com.echologue.domain.user.repository.IUserRepository;
+import com.echologue.infrastructure.persistence.po.ArticlePO;
+import com.echologue.types.enums.ArticleStatus;
+import com.echologue.types.enums.UserStatus;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 基准测试公共数据：样例文章、内存中的作者/分类/标签仓储
+ *
+ * @author Echologue
+ */
+public final class BenchmarkFixtures {
+
+    /**
+     * 作者数
+     */
+    public static final int AUTHOR_COUNT = 20;
+
+    /**
+     * 分类数
+     */
+    public static final int CATEGORY_COUNT = 10;
+
+    /**
+     * 标签数
+     */
+    public static final int TAG_COUNT = 50;
+
+    /**
+     * 每篇文章的标签数
+     */
+    public static final int TAGS_PER_ARTICLE = 3;
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 8, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 构造样例文章PO（正文约 contentLength 个字符）
+     */
+    public static ArticlePO article(long id, int contentLength) {
+        ArticlePO po = new ArticlePO();
+        po.setId(id);
+        po.setAuthorId(id % AUTHOR_COUNT + 1);
+        po.setTitle("基准测试文章标题 " + id);
+        po.setSlug("benchmark-article-" + id);
+        po.setSummary("这是第 " + id + " 篇文章的摘要，用于衡量列表映射的开销。");
+        po.setCover("https://cdn.echologue.com/cover/" + id + ".png");
+        po.setContent(content(id, contentLength));
+        po.setContentType("markdown");
+        po.setStatus(ArticleStatus.PUBLISHED.getCode());
+        po.setCategoryId(id % CATEGORY_COUNT + 1);
+        po.setViews((int) (id * 7 % 10000));
+        po.setLikes((int) (id * 3 % 500));
+        po.setCommentCount((int) (id % 40));
+        po.setPublishedAt(BASE_TIME.plusMinutes(id));
+        po.setCreatedAt(BASE_TIME.plusMinutes(id));
+        po.setUpdatedAt(BASE_TIME.plusMinutes(id));
+        po.setVersion(1);
+        return po;
+    }
+
+    /**
+     * 样例文章的标签ID
+     */
+    public static List<Long> tagIds(long articleId) {
+        List<Long> tagIds = new ArrayList<>(TAGS_PER_ARTICLE);
+        for (int i = 0; i < TAGS_PER_ARTICLE; i++) {
+            tagIds.add((articleId + i * 7L) % TAG_COUNT + 1);
+        }
+        return tagIds;
+    }
+
+    /**
+     * 样例Markdown正文
+     */
+    public static String content(long id, int length) {
+        String paragraph = "## 第 " + id + " 节\n\nEchologue 使用 DDD 分层组织代码，**仓储**负责聚合的持久化。\n\n";
+        StringBuilder sb = new StringBuilder(length + paragraph.length());
+        while (sb.length() < length) {
+            sb.append(paragraph);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 基于内存仓储的请求级加载器（不访问数据库，只衡量转换本身的开销）
+     */
+    public static RequestDataLoader inMemoryDataLoader() {
+        Map<Long, UserProfile> profiles = new HashMap<>();
+        for (long id = 1; id <= AUTHOR_COUNT; id++) {
+            profiles.put(id, UserProfile.builder()
+                    .id(id)
+                    .username("author" + id)
+                    .email("author" + id + "@echologue.com")
+                    .bio("作者 " + id)
+                    .status(UserStatus.NORMAL.getCode())
+                    .createdAt(BASE_TIME)
+                    .build());
+        }
+        Map<Long, Category> categories = new HashMap<>();
+        for (long id = 1; id <= CATEGORY_COUNT; id++) {
+            categories.put(id, Category.builder().id(id).name("分类" + id).slug("category-" + id)
+                    .sort((int) id).articleCount(0).createdAt(BASE_TIME).build());
+        }
+        Map<Long, Tag> tags = new HashMap<>();
+        for (long id = 1; id <= TAG_COUNT; id++) {
+            tags.put(id, Tag.builder().id(id).name("标签" + id).slug("tag-" + id)
+                    .articleCount(0).createdAt(BASE_TIME).build());
+        }
+
+        IUserRepository userRepository = stub(IUserRepository.class, "findProfilesByIds",
+                args -> lookup(profiles, ((Collection<?>) args[0]).stream()
+                        .map(id -> ((UserId) id).getValue())
+                        .collect(Collectors.toList())));
+        ICategoryRepository categoryRepository = stub(ICategoryRepository.class, "findByIds",
+                args -> lookup(categories, castIds(args[0])));
+        ITagRepository tagRepository = stub(ITagRepository.class, "findByIds",
+                args -> lookup(tags, castIds(args[0])));
+
+        return new RequestDataLoader(new UserApplicationService(userRepository, null),
+                categoryRepository, tagRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Long> castIds(Object ids) {
+        return (List<Long>) ids;
+    }
+
+    private static <V> List<V> lookup(Map<Long, V> source, List<Long> ids) {
+        return ids.stream().map(source::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * 只实现单个方法的仓储桩，调用其他方法时抛出异常
+     */
+    private static <T> T stub(Class<T> type, String method, Function<Object[], Object> handler) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, m, args) -> {
+            if (m.getName().equals(method)) {
+                return handler.apply(args);
+            }
+            if (m.getDeclaringClass() == Object.class) {
+                return switch (m.getName()) {
+                    case "hashCode" -> System.identityHashCode(p);
+                    case "equals" -> p == args[0];
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + m.getName());
+        });
+        return type.cast(proxy);
+    }
+}
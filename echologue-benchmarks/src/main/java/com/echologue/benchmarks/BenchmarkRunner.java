@@ -0,0 +1,48 @@
+package com.echologue.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口
+ * <p>
+ * 在 JMH 命令行参数基础上默认开启GC分析器，并以JSON格式输出结果（默认 {@code target/jmh-result.json}），
+ * 便于在CI中归档和对比。命令行显式指定 {@code -rf}/{@code -rff}/{@code -prof} 时以命令行为准。
+ *
+ * <pre>
+ * java -jar echologue-benchmarks/target/benchmarks.jar                     # 全部
+ * java -jar echologue-benchmarks/target/benchmarks.jar ArticleMapping      # 按名称过滤
+ * java -jar echologue-benchmarks/target/benchmarks.jar -rff result.json    # 指定结果文件
+ * </pre>
+ *
+ * @author Echologue
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(cli);
+        if (cli.getResultFormat().hasValue() || cli.getResult().hasValue()) {
+            builder.resultFormat(cli.getResultFormat().orElse(ResultFormatType.JSON));
+        } else {
+            builder.resultFormat(ResultFormatType.JSON).result(DEFAULT_RESULT_FILE);
+        }
+        if (cli.getProfilers().isEmpty()) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,120 @@
+package com.echologue.benchmarks;
+
+import cn.dev33.satoken.dao.SaTokenDao;
+import cn.dev33.satoken.dao.SaTokenDaoDefaultImpl;
+import com.echologue.infrastructure.security.token.OffHeapSaTokenDao;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 令牌存储：{@link OffHeapSaTokenDao} 与 Sa-Token 默认的堆内 {@link SaTokenDaoDefaultImpl} 对比
+ * <p>
+ * 预先写入 {@code tokens} 个令牌及会话，4个线程并发读写。配合 {@code -prof gc} 观察分配速率与GC次数。
+ *
+ * @author Echologue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g"})
+public class TokenStoreBenchmark {
+
+    private static final long TIMEOUT_SECONDS = 2592000L;
+
+    @Param({"off-heap", "memory"})
+    public String store;
+
+    @Param({"100000"})
+    public int tokens;
+
+    private SaTokenDao dao;
+
+    private Path checkpointFile;
+
+    private String[] tokenKeys;
+
+    private String[] sessionKeys;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        if ("off-heap".equals(store)) {
+            checkpointFile = Files.createTempFile("echologue-token-bench", ".bin");
+            Files.delete(checkpointFile);
+            dao = new OffHeapSaTokenDao(checkpointFile.toString(), 4 * 1024 * 1024);
+        } else {
+            dao = new SaTokenDaoDefaultImpl();
+        }
+        tokenKeys = new String[tokens];
+        sessionKeys = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            tokenKeys[i] = "satoken:login:token:" + i;
+            sessionKeys[i] = "satoken:login:session:" + i;
+            dao.set(tokenKeys[i], String.valueOf(i), TIMEOUT_SECONDS);
+            dao.setObject(sessionKeys[i], session(i), TIMEOUT_SECONDS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (checkpointFile != null) {
+            Files.deleteIfExists(checkpointFile);
+        }
+    }
+
+    /**
+     * 每个请求的鉴权读：token → 登录ID
+     */
+    @Benchmark
+    public String getToken() {
+        return dao.get(tokenKeys[ThreadLocalRandom.current().nextInt(tokens)]);
+    }
+
+    /**
+     * 读取会话对象
+     */
+    @Benchmark
+    public Object getSession() {
+        return dao.getObject(sessionKeys[ThreadLocalRandom.current().nextInt(tokens)]);
+    }
+
+    /**
+     * 登录/续期：覆盖写令牌
+     */
+    @Benchmark
+    public void setToken() {
+        int i = ThreadLocalRandom.current().nextInt(tokens);
+        dao.set(tokenKeys[i], String.valueOf(i), TIMEOUT_SECONDS);
+    }
+
+    private static Map<String, Object> session(int i) {
+        Map<String, Object> session = new HashMap<>();
+        session.put("id", "satoken:login:session:" + i);
+        session.put("loginId", (long) i);
+        session.put("createTime", System.currentTimeMillis());
+        session.put("tokenSignList", "token-" + i);
+        return session;
+    }
+}
@@ -0,0 +1,78 @@
+package com.echologue.benchmarks;
+
+import com.echologue.domain.article.model.Slug;
+import com.echologue.domain.article.model.Title;
+import com.echologue.domain.user.model.Email;
+import com.echologue.domain.user.model.Password;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 值对象构造与密码校验
+ *
+ * @author Echologue
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectBenchmark {
+
+    private static final String RAW_PASSWORD = "echologue-123456";
+
+    public String slug = "domain-driven-design-in-practice-2024";
+
+    public String title = "领域驱动设计实践：从贫血模型到聚合根";
+
+    public String email = "Someone.Writer+blog@Echologue.com";
+
+    private Password password;
+
+    @Setup
+    public void setup() {
+        password = Password.create(RAW_PASSWORD, Password.DEFAULT_COST);
+    }
+
+    @Benchmark
+    public Slug slugOf() {
+        return Slug.of(slug);
+    }
+
+    @Benchmark
+    public Slug slugGenerate() {
+        return Slug.generate();
+    }
+
+    @Benchmark
+    public Title titleOf() {
+        return Title.of(title);
+    }
+
+    @Benchmark
+    public Email emailOf() {
+        return Email.of(email);
+    }
+
+    /**
+     * BCrypt 校验（成本因子10），单次为毫秒级
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public boolean passwordMatches() {
+        return password.matches(RAW_PASSWORD);
+    }
+}
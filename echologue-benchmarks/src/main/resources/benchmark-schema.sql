@@ -0,0 +1,41 @@
+-- ========================================
+-- 基准测试表结构（H2 MySQL 兼容模式）
+-- 与 echologue-start/src/main/resources/schema.sql 中的文章聚合保持一致，省略注释和字符集
+-- ========================================
+
+DROP TABLE IF EXISTS `article`;
+CREATE TABLE `article` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `author_id` BIGINT NOT NULL,
+  `title` VARCHAR(200) NOT NULL,
+  `slug` VARCHAR(200) DEFAULT NULL,
+  `summary` VARCHAR(500) DEFAULT NULL,
+  `cover` VARCHAR(255) DEFAULT NULL,
+  `content` LONGTEXT,
+  `content_type` VARCHAR(20) NOT NULL DEFAULT 'markdown',
+  `content_html` LONGTEXT,
+  `status` VARCHAR(20) NOT NULL DEFAULT 'DRAFT',
+  `category_id` BIGINT DEFAULT NULL,
+  `views` INT NOT NULL DEFAULT 0,
+  `likes` INT NOT NULL DEFAULT 0,
+  `comment_count` INT NOT NULL DEFAULT 0,
+  `published_at` DATETIME DEFAULT NULL,
+  `created_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `updated_at` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  `version` INT NOT NULL DEFAULT 0,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_slug` (`slug`),
+  KEY `idx_author_id` (`author_id`),
+  KEY `idx_status` (`status`),
+  KEY `idx_published_at` (`published_at`),
+  KEY `idx_status_published_id` (`status`, `published_at`, `id`),
+  KEY `idx_category_id` (`category_id`)
+);
+
+DROP TABLE IF EXISTS `article_tag`;
+CREATE TABLE `article_tag` (
+  `article_id` BIGINT NOT NULL,
+  `tag_id` BIGINT NOT NULL,
+  PRIMARY KEY (`article_id`, `tag_id`),
+  KEY `idx_tag_id` (`tag_id`)
+);
@@ -1,21 +1,35 @@
 package com.echologue.domain.article.model;
 
+import com.echologue.domain.article.service.IContentRenderer;
 import com.echologue.domain.user.model.UserId;
 import com.echologue.types.enums.ArticleStatus;
 import com.echologue.types.exception.BusinessException;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * 文章聚合根
+ * <p>
+ * 领域方法会记录被修改的字段，仓储据此只更新变化的列；
+ * setter 仅用于构建新文章，对已加载聚合的修改请通过领域方法进行。
  *
  * @author Echologue
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class Article {
     
     /**
@@ -58,6 +72,11 @@ public class Article {
      */
     private String contentType;
     
+    /**
+     * 渲染后的HTML（创建、更新、发布时生成；仓储加载聚合时不读取）
+     */
+    private String contentHtml;
+    
     /**
      * 状态
      */
@@ -73,6 +92,12 @@ public class Article {
      */
     private List<Long> tagIds;
     
+    /**
+     * 已持久化的标签ID（仓储加载或保存时的快照，用于增量写入标签关联；只能通过 {@link #markTagsPersisted} 修改）
+     */
+    @Setter(AccessLevel.NONE)
+    private List<Long> persistedTagIds;
+    
     /**
      * 浏览量
      */
@@ -108,6 +133,16 @@ public class Article {
      */
     private Integer version;
     
+    /**
+     * 自加载（或上次保存）以来被修改的字段
+     */
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Set<ArticleField> dirtyFields = EnumSet.noneOf(ArticleField.class);
+    
     /**
      * 创建文章（草稿）
      */
@@ -138,6 +173,7 @@ public class Article {
         this.status = ArticleStatus.PUBLISHED;
         this.publishedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
+        markDirty(ArticleField.STATUS, ArticleField.PUBLISHED_AT, ArticleField.UPDATED_AT);
     }
     
     /**
@@ -150,6 +186,7 @@ public class Article {
         this.status = ArticleStatus.DRAFT;
         this.publishedAt = null;
         this.updatedAt = LocalDateTime.now();
+        markDirty(ArticleField.STATUS, ArticleField.PUBLISHED_AT, ArticleField.UPDATED_AT);
     }
     
     /**
@@ -158,25 +195,50 @@ public class Article {
     public void archive() {
         this.status = ArticleStatus.ARCHIVED;
         this.updatedAt = LocalDateTime.now();
+        markDirty(ArticleField.STATUS, ArticleField.UPDATED_AT);
     }
     
     /**
      * 更新内容
      */
     public void updateContent(Title title, String content, String summary, String cover) {
-        this.title = title;
-        this.content = content;
-        this.summary = summary;
-        this.cover = cover;
+        if (!Objects.equals(this.title, title)) {
+            this.title = title;
+            markDirty(ArticleField.TITLE);
+        }
+        if (!Objects.equals(this.content, content)) {
+            this.content = content;
+            markDirty(ArticleField.CONTENT);
+        }
+        if (!Objects.equals(this.summary, summary)) {
+            this.summary = summary;
+            markDirty(ArticleField.SUMMARY);
+        }
+        if (!Objects.equals(this.cover, cover)) {
+            this.cover = cover;
+            markDirty(ArticleField.COVER);
+        }
         this.updatedAt = LocalDateTime.now();
+        markDirty(ArticleField.UPDATED_AT);
+    }
+    
+    /**
+     * 渲染正文HTML
+     */
+    public void renderContent(IContentRenderer renderer) {
+        this.contentHtml = renderer.render(this.content, this.contentType);
+        markDirty(ArticleField.CONTENT_HTML);
     }
     
     /**
      * 更新分类
      */
     public void updateCategory(Long categoryId) {
-        this.categoryId = categoryId;
-        this.updatedAt = LocalDateTime.now();
+        if (!Objects.equals(this.categoryId, categoryId)) {
+            this.categoryId = categoryId;
+            this.updatedAt = LocalDateTime.now();
+            markDirty(ArticleField.CATEGORY_ID, ArticleField.UPDATED_AT);
+        }
     }
     
     /**
@@ -185,10 +247,11 @@ public class Article {
     public void updateTags(List<Long> tagIds) {
         this.tagIds = tagIds;
         this.updatedAt = LocalDateTime.now();
+        markDirty(ArticleField.UPDATED_AT);
     }
     
     /**
-     * 增加浏览量
+     * 增加浏览量（仅修改内存值，持久化由浏览量计数器负责）
      */
     public void incrementViews() {
         this.views++;
@@ -199,6 +262,7 @@ public class Article {
      */
     public void incrementLikes() {
         this.likes++;
+        markDirty(ArticleField.LIKES);
     }
     
     /**
@@ -207,9 +271,38 @@ public class Article {
     public void decrementLikes() {
         if (this.likes > 0) {
             this.likes--;
+            markDirty(ArticleField.LIKES);
         }
     }
     
+    /**
+     * 获取被修改的字段
+     */
+    public Set<ArticleField> getDirtyFields() {
+        return Collections.unmodifiableSet(dirtyFields);
+    }
+    
+    /**
+     * 记录已写入的标签关联（仓储保存成功后调用，保存一份副本）
+     */
+    public void markTagsPersisted(List<Long> tagIds) {
+        this.persistedTagIds = tagIds == null ? null : new ArrayList<>(tagIds);
+    }
+    
+    /**
+     * 保存成功后清除修改记录
+     */
+    public void markClean() {
+        this.dirtyFields.clear();
+    }
+    
+    /**
+     * 记录被修改的字段
+     */
+    private void markDirty(ArticleField... fields) {
+        Collections.addAll(this.dirtyFields, fields);
+    }
+    
     /**
      * 判断是否为草稿
      */
@@ -0,0 +1,24 @@
+package com.echologue.domain.article.model;
+
+/**
+ * 文章可修改字段（用于脏字段跟踪和部分更新）
+ * <p>
+ * 浏览量由计数器增量维护，标签关联由仓储按快照增量写入，均不在此列。
+ *
+ * @author Echologue
+ */
+public enum ArticleField {
+
+    TITLE,
+    SUMMARY,
+    COVER,
+    CONTENT,
+    CONTENT_TYPE,
+    CONTENT_HTML,
+    STATUS,
+    CATEGORY_ID,
+    LIKES,
+    COMMENT_COUNT,
+    PUBLISHED_AT,
+    UPDATED_AT
+}
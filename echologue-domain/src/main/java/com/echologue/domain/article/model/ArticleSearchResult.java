@@ -0,0 +1,26 @@
+package com.echologue.domain.article.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 文章全文检索结果
+ *
+ * @author Echologue
+ */
+@Data
+@AllArgsConstructor
+public class ArticleSearchResult {
+
+    /**
+     * 命中文章ID（按相关度降序，仅当前页）
+     */
+    private List<Long> articleIds;
+
+    /**
+     * 命中文章总数
+     */
+    private long total;
+}
@@ -0,0 +1,93 @@
+package com.echologue.domain.article.model;
+
+import com.echologue.types.enums.ArticleStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 文章摘要读模型（列表查询专用，不含正文）
+ *
+ * @author Echologue
+ */
+@Data
+@Builder
+public class ArticleSummary {
+
+    /**
+     * 文章ID
+     */
+    private Long id;
+
+    /**
+     * 作者ID
+     */
+    private Long authorId;
+
+    /**
+     * 标题
+     */
+    private String title;
+
+    /**
+     * URL别名
+     */
+    private String slug;
+
+    /**
+     * 摘要
+     */
+    private String summary;
+
+    /**
+     * 封面图
+     */
+    private String cover;
+
+    /**
+     * 状态
+     */
+    private ArticleStatus status;
+
+    /**
+     * 分类ID
+     */
+    private Long categoryId;
+
+    /**
+     * 标签ID列表
+     */
+    private List<Long> tagIds;
+
+    /**
+     * 浏览量
+     */
+    private Integer views;
+
+    /**
+     * 点赞数
+     */
+    private Integer likes;
+
+    /**
+     * 评论数
+     */
+    private Integer commentCount;
+
+    /**
+     * 发布时间
+     */
+    private LocalDateTime publishedAt;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+}
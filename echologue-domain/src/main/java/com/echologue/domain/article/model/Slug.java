@@ -4,6 +4,7 @@ import cn.hutool.core.util.StrUtil;
 import lombok.Value;
 
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * URL别名值对象
@@ -13,11 +14,20 @@ import java.util.UUID;
 @Value
 public class Slug {
     
+    private static final Pattern SLUG_PATTERN = Pattern.compile("^[a-z0-9-]+$");
+    
+    private static final Pattern NON_SLUG_CHARS = Pattern.compile("[^a-z0-9]+");
+    
+    /**
+     * 由文本生成时保留的最大长度
+     */
+    private static final int MAX_DERIVED_LENGTH = 80;
+    
     String value;
     
     public Slug(String value) {
         if (value != null && !value.isEmpty()) {
-            if (!value.matches("^[a-z0-9-]+$")) {
+            if (!SLUG_PATTERN.matcher(value).matches()) {
                 throw new IllegalArgumentException("Slug只能包含小写字母、数字和连字符");
             }
             this.value = value;
@@ -35,6 +45,29 @@ public class Slug {
         return new Slug(null);
     }
     
+    /**
+     * 由文本（文件名、英文标题等）生成：转小写，连续的非字母数字字符替换为连字符；
+     * 没有可用字符时（如中文标题）生成随机slug
+     */
+    public static Slug fromText(String text) {
+        if (StrUtil.isBlank(text)) {
+            return generate();
+        }
+        String value = NON_SLUG_CHARS.matcher(text.toLowerCase()).replaceAll("-");
+        if (value.length() > MAX_DERIVED_LENGTH) {
+            value = value.substring(0, MAX_DERIVED_LENGTH);
+        }
+        return new Slug(StrUtil.strip(value, "-"));
+    }
+    
+    /**
+     * 追加随机后缀（slug冲突时使用）
+     */
+    public Slug withRandomSuffix() {
+        String base = value.length() > MAX_DERIVED_LENGTH ? value.substring(0, MAX_DERIVED_LENGTH) : value;
+        return new Slug(base + "-" + generateRandomSlug().substring(0, 6));
+    }
+    
     private String generateRandomSlug() {
         return UUID.randomUUID().toString().substring(0, 8);
     }
@@ -0,0 +1,16 @@
+package com.echologue.domain.article.repository;
+
+import com.echologue.domain.article.model.Article;
+
+/**
+ * 文章正文HTML仓储（按文章ID和版本缓存渲染结果）
+ *
+ * @author Echologue
+ */
+public interface IArticleContentHtmlRepository {
+
+    /**
+     * 读取文章当前版本的正文HTML，未保存渲染结果时现场渲染；不支持渲染的内容类型返回null
+     */
+    String findContentHtml(Article article);
+}
@@ -0,0 +1,38 @@
+package com.echologue.domain.article.repository;
+
+import com.echologue.domain.user.model.UserId;
+
+/**
+ * 文章计数器仓储接口（已发布总数、作者文章数）
+ * <p>
+ * 计数保存在缓存中，由应用服务在写操作时增量维护，变更在事务提交后生效，并定期与数据库对账。
+ *
+ * @author Echologue
+ */
+public interface IArticleCounterRepository {
+
+    /**
+     * 已发布文章总数
+     */
+    long countPublished();
+
+    /**
+     * 作者文章总数
+     */
+    long countByAuthorId(UserId authorId);
+
+    /**
+     * 调整已发布文章总数
+     */
+    void adjustPublished(long delta);
+
+    /**
+     * 调整作者文章总数
+     */
+    void adjustAuthor(UserId authorId, long delta);
+
+    /**
+     * 与数据库对账
+     */
+    void reconcile();
+}
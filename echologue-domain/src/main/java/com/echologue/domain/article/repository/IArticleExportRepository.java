@@ -0,0 +1,24 @@
+package com.echologue.domain.article.repository;
+
+import com.echologue.domain.article.model.Article;
+import com.echologue.types.enums.ArticleStatus;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 文章导出仓储：按ID顺序流式读取全部文章
+ *
+ * @author Echologue
+ */
+public interface IArticleExportRepository {
+
+    /**
+     * 流式读取文章（含标签），每凑满 batchSize 篇回调一次；内存占用只与批大小有关，与总数无关
+     *
+     * @param status    只导出该状态的文章，null表示全部
+     * @param batchSize 每批文章数
+     * @param consumer  批次回调，抛出异常时中止读取
+     */
+    void forEachBatch(ArticleStatus status, int batchSize, Consumer<List<Article>> consumer);
+}
@@ -0,0 +1,26 @@
+package com.echologue.domain.article.repository;
+
+/**
+ * 文章列表版本戳
+ * <p>
+ * 任何可能改变已发布文章列表内容的写操作都会递增版本，用于列表的条件请求校验。
+ *
+ * @author Echologue
+ */
+public interface IArticleFeedVersion {
+
+    /**
+     * 当前版本
+     */
+    long version();
+
+    /**
+     * 最近一次变更的时间（毫秒时间戳）
+     */
+    long lastModified();
+
+    /**
+     * 递增版本（事务提交后生效）
+     */
+    void bump();
+}
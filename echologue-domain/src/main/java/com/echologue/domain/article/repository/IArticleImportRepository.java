@@ -0,0 +1,26 @@
+package com.echologue.domain.article.repository;
+
+import com.echologue.domain.article.model.Article;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 文章批量导入仓储：以JDBC批量语句写入新文章及其标签关联
+ *
+ * @author Echologue
+ */
+public interface IArticleImportRepository {
+
+    /**
+     * 查询已被占用的slug
+     */
+    Set<String> findExistingSlugs(Collection<String> slugs);
+
+    /**
+     * 在一个事务中写入一批新文章（含标签关联），写入后为每篇文章回填ID；
+     * 任一失败时整批回滚，slug冲突时抛出 DuplicateKeyException
+     */
+    void insertAll(List<Article> articles);
+}
@@ -2,8 +2,11 @@ package com.echologue.domain.article.repository;
 
 import com.echologue.domain.article.model.Article;
 import com.echologue.domain.article.model.ArticleId;
+import com.echologue.domain.article.model.ArticleSummary;
+import com.echologue.domain.article.model.Slug;
 import com.echologue.domain.user.model.UserId;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +27,11 @@ public interface IArticleRepository {
      */
     Optional<Article> findById(ArticleId articleId);
     
+    /**
+     * 根据slug查询文章
+     */
+    Optional<Article> findBySlug(Slug slug);
+    
     /**
      * 根据作者ID查询文章列表（分页）
      */
@@ -34,6 +42,26 @@ public interface IArticleRepository {
      */
     List<Article> findPublished(int page, int size);
     
+    /**
+     * 查询已发布文章摘要列表（分页，不含正文）
+     */
+    List<ArticleSummary> findPublishedSummaries(int page, int size);
+    
+    /**
+     * 游标查询已发布文章摘要列表：返回排在 (publishedAt, id) 之后的记录，两者为空时从头开始
+     */
+    List<ArticleSummary> findPublishedSummariesAfter(LocalDateTime publishedAt, Long id, int size);
+    
+    /**
+     * 根据ID列表查询已发布文章摘要（按传入顺序，忽略不存在或未发布的文章）
+     */
+    List<ArticleSummary> findPublishedSummariesByIds(List<Long> ids);
+    
+    /**
+     * 根据作者ID查询文章摘要列表（分页，不含正文）
+     */
+    List<ArticleSummary> findSummariesByAuthorId(UserId authorId, int page, int size);
+    
     /**
      * 统计已发布文章总数
      */
@@ -0,0 +1,30 @@
+package com.echologue.domain.article.repository;
+
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.model.ArticleId;
+import com.echologue.domain.article.model.ArticleSearchResult;
+
+/**
+ * 文章全文检索仓储接口
+ * <p>
+ * 只收录已发布文章，写入在事务提交后生效。
+ *
+ * @author Echologue
+ */
+public interface IArticleSearchRepository {
+
+    /**
+     * 收录文章：已发布则新增或更新索引，否则从索引中移除
+     */
+    void index(Article article);
+
+    /**
+     * 从索引中移除文章
+     */
+    void remove(ArticleId articleId);
+
+    /**
+     * 按关键词检索，结果按相关度降序
+     */
+    ArticleSearchResult search(String keyword, int offset, int limit);
+}
@@ -0,0 +1,21 @@
+package com.echologue.domain.article.repository;
+
+import com.echologue.domain.article.model.ArticleId;
+
+/**
+ * 文章浏览量计数器接口（写缓冲，由基础设施层异步批量落库）
+ *
+ * @author Echologue
+ */
+public interface IArticleViewCounter {
+
+    /**
+     * 记录一次浏览
+     */
+    void increment(ArticleId articleId);
+
+    /**
+     * 查询尚未落库的浏览量增量
+     */
+    long pendingViews(ArticleId articleId);
+}
@@ -0,0 +1,14 @@
+package com.echologue.domain.article.service;
+
+/**
+ * 文章内容渲染服务
+ *
+ * @author Echologue
+ */
+public interface IContentRenderer {
+
+    /**
+     * 将文章内容渲染为经过净化的HTML，不支持的内容类型返回null
+     */
+    String render(String content, String contentType);
+}
@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
  * @author Echologue
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class Tag {
     
     /**
@@ -22,11 +22,26 @@ public interface ICategoryRepository {
      */
     Optional<Category> findById(Long id);
     
+    /**
+     * 根据slug查询分类
+     */
+    Optional<Category> findBySlug(String slug);
+    
+    /**
+     * 按名称前缀联想分类（忽略大小写，按文章数量降序）
+     */
+    List<Category> suggestByName(String prefix, int limit);
+    
     /**
      * 查询所有分类
      */
     List<Category> findAll();
     
+    /**
+     * 根据ID列表查询分类
+     */
+    List<Category> findByIds(List<Long> ids);
+    
     /**
      * 删除分类
      */
@@ -22,6 +22,16 @@ public interface ITagRepository {
      */
     Optional<Tag> findById(Long id);
     
+    /**
+     * 根据slug查询标签
+     */
+    Optional<Tag> findBySlug(String slug);
+    
+    /**
+     * 按名称前缀联想标签（忽略大小写，按文章数量降序）
+     */
+    List<Tag> suggestByName(String prefix, int limit);
+    
     /**
      * 查询所有标签
      */
@@ -20,10 +20,22 @@ public class Password {
         this.encryptedValue = encryptedValue;
     }
     
+    /**
+     * BCrypt默认成本因子
+     */
+    public static final int DEFAULT_COST = 10;
+    
     /**
      * 创建密码（加密）
      */
     public static Password create(String rawPassword) {
+        return create(rawPassword, DEFAULT_COST);
+    }
+    
+    /**
+     * 按指定成本因子创建密码（加密）
+     */
+    public static Password create(String rawPassword, int cost) {
         if (rawPassword == null || rawPassword.isEmpty()) {
             throw new IllegalArgumentException("密码不能为空");
         }
@@ -31,7 +43,7 @@ public class Password {
             throw new IllegalArgumentException("密码长度不能少于6位");
         }
         // 使用BCrypt加密
-        String encrypted = BCrypt.hashpw(rawPassword, BCrypt.gensalt());
+        String encrypted = BCrypt.hashpw(rawPassword, BCrypt.gensalt(cost));
         return new Password(encrypted);
     }
     
@@ -54,4 +66,19 @@ public class Password {
         }
         return BCrypt.checkpw(rawPassword, this.encryptedValue);
     }
+    
+    /**
+     * 哈希中记录的成本因子（格式为 $2a$10$...），无法识别时返回-1
+     */
+    public int cost() {
+        String[] parts = encryptedValue.split("\\$", 4);
+        if (parts.length < 4) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(parts[2]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
 }
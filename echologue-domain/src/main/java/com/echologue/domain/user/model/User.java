@@ -1,5 +1,6 @@
 package com.echologue.domain.user.model;
 
+import com.echologue.domain.user.service.IPasswordHasher;
 import com.echologue.types.enums.UserStatus;
 import lombok.Builder;
 import lombok.Data;
@@ -77,8 +78,8 @@ public class User {
     /**
      * 认证密码
      */
-    public boolean authenticate(String rawPassword) {
-        return this.password.matches(rawPassword);
+    public boolean authenticate(String rawPassword, IPasswordHasher passwordHasher) {
+        return passwordHasher.matches(this.password, rawPassword);
     }
     
     /**
@@ -0,0 +1,51 @@
+package com.echologue.domain.user.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 用户资料读模型（展示专用，不含密码，不可变）
+ *
+ * @author Echologue
+ */
+@Value
+@Builder
+public class UserProfile {
+
+    /**
+     * 用户ID
+     */
+    Long id;
+
+    /**
+     * 用户名
+     */
+    String username;
+
+    /**
+     * 邮箱
+     */
+    String email;
+
+    /**
+     * 头像
+     */
+    String avatar;
+
+    /**
+     * 个人简介
+     */
+    String bio;
+
+    /**
+     * 状态
+     */
+    Integer status;
+
+    /**
+     * 创建时间
+     */
+    LocalDateTime createdAt;
+}
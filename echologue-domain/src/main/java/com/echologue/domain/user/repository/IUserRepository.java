@@ -3,8 +3,11 @@ package com.echologue.domain.user.repository;
 import com.echologue.domain.user.model.Email;
 import com.echologue.domain.user.model.User;
 import com.echologue.domain.user.model.UserId;
+import com.echologue.domain.user.model.UserProfile;
 import com.echologue.domain.user.model.Username;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,6 +27,16 @@ public interface IUserRepository {
      */
     Optional<User> findById(UserId userId);
     
+    /**
+     * 根据ID查询用户资料（不含密码，可能来自缓存）
+     */
+    Optional<UserProfile> findProfileById(UserId userId);
+    
+    /**
+     * 根据ID列表批量查询用户资料（不含密码，可能来自缓存）
+     */
+    List<UserProfile> findProfilesByIds(Collection<UserId> userIds);
+    
     /**
      * 根据邮箱查询用户
      */
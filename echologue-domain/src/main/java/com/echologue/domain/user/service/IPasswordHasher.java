@@ -0,0 +1,28 @@
+package com.echologue.domain.user.service;
+
+import com.echologue.domain.user.model.Password;
+
+/**
+ * 密码哈希服务
+ * <p>
+ * 加密和校验耗CPU，实现方应在专用线程池中执行并限制排队，繁忙时抛出错误码429的业务异常。
+ *
+ * @author Echologue
+ */
+public interface IPasswordHasher {
+
+    /**
+     * 按当前配置的成本因子加密
+     */
+    Password hash(String rawPassword);
+
+    /**
+     * 校验密码
+     */
+    boolean matches(Password password, String rawPassword);
+
+    /**
+     * 哈希的成本因子与当前配置不一致，需要重新加密
+     */
+    boolean needsRehash(Password password);
+}
@@ -0,0 +1,45 @@
+package com.echologue.infrastructure.config;
+
+import com.echologue.infrastructure.support.GatedDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 数据库连接闸门配置（{@code echologue.jdbc-gate.enabled=true} 时启用，virtual 配置文件默认开启）
+ *
+ * @author Echologue
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "echologue.jdbc-gate", name = "enabled", havingValue = "true")
+public class JdbcGateConfig {
+
+    /**
+     * 用闸门包装数据源
+     */
+    @Bean
+    public static BeanPostProcessor jdbcGatePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof GatedDataSource) {
+                    return bean;
+                }
+                // 许可数默认与连接池大小一致
+                int permits = environment.getProperty("echologue.jdbc-gate.permits", Integer.class,
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                int maxWaiters = environment.getProperty("echologue.jdbc-gate.max-waiters", Integer.class, 1000);
+                long acquireTimeout = environment.getProperty("echologue.jdbc-gate.acquire-timeout", Long.class, 3000L);
+                log.info("数据源 {} 启用连接闸门，许可数：{}，最大排队：{}，等待超时：{}ms",
+                        beanName, permits, maxWaiters, acquireTimeout);
+                return new GatedDataSource(dataSource, permits, maxWaiters, acquireTimeout);
+            }
+        };
+    }
+}
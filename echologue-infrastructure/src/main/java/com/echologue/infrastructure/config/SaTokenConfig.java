@@ -29,6 +29,7 @@ public class SaTokenConfig implements WebMvcConfigurer {
             // 排除登录接口
             "/api/user/login",
             "/api/user/register",
+            "/api/user/check-availability",
             // 排除公开接口（查看文章）
             "/api/article",
             "/api/article/*",
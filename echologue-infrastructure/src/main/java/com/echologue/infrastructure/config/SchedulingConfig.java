@@ -0,0 +1,14 @@
+package com.echologue.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定时任务配置
+ *
+ * @author Echologue
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,154 @@
+package com.echologue.infrastructure.persistence.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 内存目录（写时复制）
+ * <p>
+ * 首次读取时从数据库加载全部实体生成快照（含名称前缀索引），之后读操作只访问当前快照，不查询数据库；
+ * 写操作复制出新快照后原子替换，读线程要么看到旧快照要么看到新快照。
+ * 快照中的实体不对外暴露，读取时返回副本。
+ *
+ * @author Echologue
+ */
+@Slf4j
+public class Catalog<T> {
+
+    private final String name;
+    private final Supplier<List<T>> loader;
+    private final Function<T, Long> idOf;
+    private final Function<T, String> slugOf;
+    private final Function<T, String> nameOf;
+    private final ToIntFunction<T> weightOf;
+    private final Comparator<T> order;
+    private final UnaryOperator<T> copier;
+
+    private volatile CatalogSnapshot<T> snapshot;
+
+    private long version;
+
+    public Catalog(String name, Supplier<List<T>> loader, Function<T, Long> idOf, Function<T, String> slugOf,
+                   Function<T, String> nameOf, ToIntFunction<T> weightOf,
+                   Comparator<T> order, UnaryOperator<T> copier) {
+        this.name = name;
+        this.loader = loader;
+        this.idOf = idOf;
+        this.slugOf = slugOf;
+        this.nameOf = nameOf;
+        this.weightOf = weightOf;
+        this.order = order;
+        this.copier = copier;
+    }
+
+    /**
+     * 当前快照（未加载时从数据库加载）
+     */
+    public CatalogSnapshot<T> snapshot() {
+        CatalogSnapshot<T> current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = swap(loader.get());
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 排好序的全部实体（副本）
+     */
+    public List<T> list() {
+        return snapshot().list().stream().map(copier).collect(Collectors.toList());
+    }
+
+    /**
+     * 根据ID查询（副本）
+     */
+    public T getById(Long id) {
+        T item = snapshot().getById(id);
+        return item == null ? null : copier.apply(item);
+    }
+
+    /**
+     * 根据slug查询（副本）
+     */
+    public T getBySlug(String slug) {
+        T item = snapshot().getBySlug(slug);
+        return item == null ? null : copier.apply(item);
+    }
+
+    /**
+     * 名称前缀联想（副本，按权重降序）
+     */
+    public List<T> suggest(String prefix, int limit) {
+        return snapshot().suggest(prefix, limit).stream().map(copier).collect(Collectors.toList());
+    }
+    
+    /**
+     * 根据ID列表查询（副本，按传入顺序，忽略不存在的ID）
+     */
+    public List<T> getByIds(Collection<Long> ids) {
+        CatalogSnapshot<T> current = snapshot();
+        return ids.stream()
+                .map(current::getById)
+                .filter(Objects::nonNull)
+                .map(copier)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 新增或替换实体（尚未加载时忽略，首次读取会从数据库拿到最新数据）
+     */
+    public synchronized void put(T item) {
+        if (snapshot == null) {
+            return;
+        }
+        Map<Long, T> items = new HashMap<>(snapshot.asMap());
+        items.put(idOf.apply(item), copier.apply(item));
+        swap(items.values());
+    }
+
+    /**
+     * 移除实体
+     */
+    public synchronized void remove(Long id) {
+        if (snapshot == null || snapshot.getById(id) == null) {
+            return;
+        }
+        Map<Long, T> items = new HashMap<>(snapshot.asMap());
+        items.remove(id);
+        swap(items.values());
+    }
+
+    /**
+     * 从数据库重新加载（用于修正其他实例写入造成的差异）
+     */
+    public synchronized void reload() {
+        if (snapshot == null) {
+            return;
+        }
+        CatalogSnapshot<T> reloaded = swap(loader.get());
+        log.debug("{}目录已重新加载，版本：{}，数量：{}", name, reloaded.getVersion(), reloaded.list().size());
+    }
+
+    private CatalogSnapshot<T> swap(Collection<T> items) {
+        CatalogSnapshot<T> next = CatalogSnapshot.of(++version, new ArrayList<>(items), idOf, slugOf, nameOf, weightOf, order);
+        snapshot = next;
+        return next;
+    }
+}
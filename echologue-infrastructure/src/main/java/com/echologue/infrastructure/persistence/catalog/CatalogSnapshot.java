@@ -0,0 +1,98 @@
+package com.echologue.infrastructure.persistence.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 目录快照（不可变）：按ID、按slug索引的实体，排好序的列表，以及名称前缀索引
+ * <p>
+ * 快照一经创建不再修改，写操作通过生成新快照并整体替换完成。
+ *
+ * @author Echologue
+ */
+public final class CatalogSnapshot<T> {
+
+    /**
+     * 快照版本号，每次替换递增
+     */
+    private final long version;
+
+    private final List<T> sorted;
+
+    private final Map<Long, T> byId;
+
+    private final Map<String, T> bySlug;
+
+    private final PrefixIndex<T> byName;
+
+    private CatalogSnapshot(long version, List<T> sorted, Map<Long, T> byId, Map<String, T> bySlug,
+                            PrefixIndex<T> byName) {
+        this.version = version;
+        this.sorted = sorted;
+        this.byId = byId;
+        this.bySlug = bySlug;
+        this.byName = byName;
+    }
+
+    /**
+     * 由实体集合构建快照
+     */
+    static <T> CatalogSnapshot<T> of(long version, Collection<T> items, Function<T, Long> idOf,
+                                     Function<T, String> slugOf, Function<T, String> nameOf,
+                                     ToIntFunction<T> weightOf, Comparator<T> order) {
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(order);
+        Map<Long, T> byId = new HashMap<>(sorted.size() * 2);
+        Map<String, T> bySlug = new HashMap<>(sorted.size() * 2);
+        for (T item : sorted) {
+            byId.put(idOf.apply(item), item);
+            String slug = slugOf.apply(item);
+            if (slug != null) {
+                bySlug.put(slug, item);
+            }
+        }
+        return new CatalogSnapshot<>(version, Collections.unmodifiableList(sorted),
+                Collections.unmodifiableMap(byId), Collections.unmodifiableMap(bySlug),
+                PrefixIndex.of(sorted, nameOf, weightOf));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 排好序的全部实体
+     */
+    public List<T> list() {
+        return sorted;
+    }
+
+    public T getById(Long id) {
+        return byId.get(id);
+    }
+
+    public T getBySlug(String slug) {
+        return bySlug.get(slug);
+    }
+
+    /**
+     * 名称前缀匹配，按权重降序取前limit个
+     */
+    public List<T> suggest(String prefix, int limit) {
+        return byName.suggest(prefix, limit);
+    }
+
+    /**
+     * ID -> 实体（只读）
+     */
+    Map<Long, T> asMap() {
+        return byId;
+    }
+}
@@ -0,0 +1,144 @@
+package com.echologue.infrastructure.persistence.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 名称前缀索引（不可变）
+ * <p>
+ * 名称转小写后排序存放，同一前缀的条目在数组中连续，两次二分查找即可确定区间；
+ * 区间内按权重取前K名使用稀疏表（区间最大值查询）逐步拆分区间，
+ * 耗时与K相关而与区间大小无关，单字前缀命中上万条时同样只需几微秒。
+ *
+ * @author Echologue
+ */
+public final class PrefixIndex<T> {
+
+    private final String[] keys;
+
+    private final List<T> items;
+
+    private final int[] weights;
+
+    /**
+     * sparse[j][i] 为区间 [i, i + 2^j) 内权重最大的下标
+     */
+    private final int[][] sparse;
+
+    private PrefixIndex(String[] keys, List<T> items, int[] weights) {
+        this.keys = keys;
+        this.items = items;
+        this.weights = weights;
+        this.sparse = buildSparseTable(weights);
+    }
+
+    /**
+     * 构建索引
+     */
+    static <T> PrefixIndex<T> of(Collection<T> source, Function<T, String> nameOf, ToIntFunction<T> weightOf) {
+        List<T> sorted = new ArrayList<>(source.size());
+        for (T item : source) {
+            if (nameOf.apply(item) != null) {
+                sorted.add(item);
+            }
+        }
+        sorted.sort(Comparator.comparing(item -> normalize(nameOf.apply(item))));
+
+        String[] keys = new String[sorted.size()];
+        int[] weights = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            keys[i] = normalize(nameOf.apply(sorted.get(i)));
+            weights[i] = weightOf.applyAsInt(sorted.get(i));
+        }
+        return new PrefixIndex<>(keys, sorted, weights);
+    }
+
+    /**
+     * 查询名称以prefix开头（忽略大小写）的条目，按权重降序返回前limit个；prefix为空时在全部条目中取
+     */
+    public List<T> suggest(String prefix, int limit) {
+        String normalized = prefix == null ? "" : normalize(prefix.trim());
+        int from = lowerBound(normalized);
+        int to = normalized.isEmpty() ? keys.length : lowerBound(normalized + Character.MAX_VALUE);
+        List<T> result = new ArrayList<>(Math.min(limit, Math.max(to - from, 0)));
+        if (from >= to || limit <= 0) {
+            return result;
+        }
+
+        // 候选区间按区间最大权重排序，每次取出最大者并把剩余部分拆成左右两个区间
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> {
+            int byWeight = Integer.compare(weights[b[2]], weights[a[2]]);
+            return byWeight != 0 ? byWeight : Integer.compare(a[2], b[2]);
+        });
+        ranges.offer(new int[]{from, to, argMax(from, to)});
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] range = ranges.poll();
+            int best = range[2];
+            result.add(items.get(best));
+            if (range[0] < best) {
+                ranges.offer(new int[]{range[0], best, argMax(range[0], best)});
+            }
+            if (best + 1 < range[1]) {
+                ranges.offer(new int[]{best + 1, range[1], argMax(best + 1, range[1])});
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 第一个不小于key的下标
+     */
+    private int lowerBound(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            return -index - 1;
+        }
+        // 名称相同的条目取第一个
+        while (index > 0 && keys[index - 1].equals(key)) {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * 区间 [from, to) 内权重最大的下标（同权重取靠前者）
+     */
+    private int argMax(int from, int to) {
+        int level = 31 - Integer.numberOfLeadingZeros(to - from);
+        int left = sparse[level][from];
+        int right = sparse[level][to - (1 << level)];
+        return weights[right] > weights[left] ? right : left;
+    }
+
+    private static int[][] buildSparseTable(int[] weights) {
+        int n = weights.length;
+        int levels = n == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(n);
+        int[][] table = new int[levels][];
+        table[0] = new int[n];
+        for (int i = 0; i < n; i++) {
+            table[0][i] = i;
+        }
+        for (int j = 1; j < levels; j++) {
+            int span = 1 << j;
+            int half = span >> 1;
+            table[j] = new int[n - span + 1];
+            for (int i = 0; i + span <= n; i++) {
+                int left = table[j - 1][i];
+                int right = table[j - 1][i + half];
+                table[j][i] = weights[right] > weights[left] ? right : left;
+            }
+        }
+        return table;
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,94 @@
+package com.echologue.infrastructure.persistence.converter;
+
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.model.ArticleId;
+import com.echologue.domain.article.model.ArticleSummary;
+import com.echologue.domain.article.model.Slug;
+import com.echologue.domain.article.model.Title;
+import com.echologue.domain.user.model.UserId;
+import com.echologue.infrastructure.persistence.po.ArticlePO;
+import com.echologue.infrastructure.persistence.po.ArticleSummaryPO;
+import com.echologue.types.enums.ArticleStatus;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 文章持久化对象转换器（编译期生成实现）
+ *
+ * @author Echologue
+ */
+@Mapper(componentModel = "spring")
+public interface ArticlePOConverter {
+
+    /**
+     * PO转Domain（tagIds直接引用，persistedTagIds保存一份副本用于增量比较）
+     */
+    @Mapping(target = "tagIds", source = "tagIds", qualifiedByName = "sameList")
+    @Mapping(target = "persistedTagIds", source = "tagIds")
+    @Mapping(target = "dirtyFields", ignore = true)
+    Article toDomain(ArticlePO po, List<Long> tagIds);
+
+    /**
+     * Domain转PO
+     */
+    ArticlePO toPO(Article article);
+
+    /**
+     * 列表投影转摘要读模型
+     */
+    @Mapping(target = "tagIds", source = "tagIds", qualifiedByName = "sameList")
+    ArticleSummary toSummary(ArticleSummaryPO po, List<Long> tagIds);
+
+    @Named("sameList")
+    default List<Long> sameList(List<Long> list) {
+        return list;
+    }
+
+    default List<Long> copyList(List<Long> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    default ArticleId toArticleId(Long id) {
+        return id == null ? null : ArticleId.of(id);
+    }
+
+    default Long fromArticleId(ArticleId id) {
+        return id == null ? null : id.getValue();
+    }
+
+    default UserId toUserId(Long id) {
+        return id == null ? null : UserId.of(id);
+    }
+
+    default Long fromUserId(UserId id) {
+        return id == null ? null : id.getValue();
+    }
+
+    default Title toTitle(String title) {
+        return title == null ? null : Title.of(title);
+    }
+
+    default String fromTitle(Title title) {
+        return title == null ? null : title.getValue();
+    }
+
+    default Slug toSlug(String slug) {
+        return Slug.of(slug);
+    }
+
+    default String fromSlug(Slug slug) {
+        return slug == null ? null : slug.getValue();
+    }
+
+    default ArticleStatus toStatus(String code) {
+        return code == null ? null : ArticleStatus.of(code);
+    }
+
+    default String fromStatus(ArticleStatus status) {
+        return status == null ? null : status.getCode();
+    }
+}
@@ -1,8 +1,21 @@
 package com.echologue.infrastructure.persistence.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.echologue.infrastructure.persistence.po.ArticlePO;
+import com.echologue.infrastructure.persistence.po.ArticleSummaryPO;
+import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 文章Mapper
@@ -11,4 +24,93 @@ import org.apache.ibatis.annotations.Mapper;
  */
 @Mapper
 public interface ArticleMapper extends BaseMapper<ArticlePO> {
+
+    /**
+     * 列表投影列（不含 content）
+     */
+    String SUMMARY_COLUMNS = "id, author_id, title, slug, summary, cover, status, category_id, "
+            + "views, likes, comment_count, published_at, created_at, updated_at";
+
+    /**
+     * 列表分页查询的语句超时（秒），与 echologue.article.feed.page-timeout 对应，超时后由驱动取消语句
+     */
+    int SUMMARY_PAGE_TIMEOUT_SECONDS = 3;
+
+    /**
+     * 导出列（不含 content_html，导入时重新渲染）
+     */
+    String EXPORT_COLUMNS = "id, author_id, title, slug, summary, cover, content, content_type, status, "
+            + "category_id, views, likes, comment_count, published_at, created_at, updated_at, version";
+
+    /**
+     * 累加浏览量（不经过乐观锁，不改写其他列）
+     */
+    @Update("UPDATE article SET views = views + #{delta} WHERE id = #{id}")
+    int incrementViews(@Param("id") Long id, @Param("delta") long delta);
+
+    /**
+     * 查询指定版本的正文HTML（版本不匹配时返回null）
+     */
+    @Select("SELECT content_html FROM article WHERE id = #{id} AND version = #{version}")
+    String selectContentHtml(@Param("id") Long id, @Param("version") Integer version);
+
+    /**
+     * 按状态分页查询列表投影（按发布时间倒序）
+     */
+    @Select("SELECT " + SUMMARY_COLUMNS + " FROM article WHERE status = #{status} "
+            + "ORDER BY published_at DESC, id DESC")
+    @Options(timeout = SUMMARY_PAGE_TIMEOUT_SECONDS)
+    IPage<ArticleSummaryPO> selectSummaryPageByStatus(IPage<ArticleSummaryPO> page,
+                                                       @Param("status") String status);
+
+    /**
+     * 按状态游标查询列表投影：在 (published_at, id) 上定位，走 idx_status_published_id
+     */
+    @Select("<script>SELECT " + SUMMARY_COLUMNS + " FROM article WHERE status = #{status} "
+            + "<if test='publishedAt != null'>AND (published_at &lt; #{publishedAt} "
+            + "OR (published_at = #{publishedAt} AND id &lt; #{id})) </if>"
+            + "ORDER BY published_at DESC, id DESC LIMIT #{limit}</script>")
+    List<ArticleSummaryPO> selectSummariesByStatusAfter(@Param("status") String status,
+                                                       @Param("publishedAt") LocalDateTime publishedAt,
+                                                       @Param("id") Long id,
+                                                       @Param("limit") int limit);
+
+    /**
+     * 按状态和ID列表查询列表投影（不保证顺序）
+     */
+    @Select("<script>SELECT " + SUMMARY_COLUMNS + " FROM article WHERE status = #{status} AND id IN "
+            + "<foreach collection='ids' item='id' open='(' separator=',' close=')'>#{id}</foreach></script>")
+    List<ArticleSummaryPO> selectSummariesByStatusAndIds(@Param("status") String status,
+                                                        @Param("ids") Collection<Long> ids);
+
+    /**
+     * 按作者分页查询列表投影（按创建时间倒序）
+     */
+    @Select("SELECT " + SUMMARY_COLUMNS + " FROM article WHERE author_id = #{authorId} "
+            + "ORDER BY created_at DESC")
+    @Options(timeout = SUMMARY_PAGE_TIMEOUT_SECONDS)
+    IPage<ArticleSummaryPO> selectSummaryPageByAuthorId(IPage<ArticleSummaryPO> page,
+                                                         @Param("authorId") Long authorId);
+
+    /**
+     * 按ID顺序流式读取文章（status为null时读取全部）
+     * <p>
+     * fetchSize 为 Integer.MIN_VALUE 时 MySQL 驱动逐行读取结果集，不在客户端缓存整个结果；
+     * 游标未关闭前该连接不能执行其他语句，关联查询需使用其他连接。
+     */
+    @Select("<script>SELECT " + EXPORT_COLUMNS + " FROM article "
+            + "<where><if test='status != null'>status = #{status}</if></where> ORDER BY id</script>")
+    @Options(fetchSize = Integer.MIN_VALUE, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<ArticlePO> selectExportCursor(@Param("status") String status);
+
+    /**
+     * 导入新文章：列固定、不取自增主键，批量执行时每行的SQL相同，
+     * 驱动开启 rewriteBatchedStatements 后合并为多行INSERT
+     */
+    @Insert("INSERT INTO article (author_id, title, slug, summary, cover, content, content_type, content_html, "
+            + "status, category_id, views, likes, comment_count, published_at, created_at, updated_at, version) "
+            + "VALUES (#{authorId}, #{title}, #{slug}, #{summary}, #{cover}, #{content}, #{contentType}, "
+            + "#{contentHtml}, #{status}, #{categoryId}, #{views}, #{likes}, #{commentCount}, #{publishedAt}, "
+            + "#{createdAt}, #{updatedAt}, #{version})")
+    int insertImported(ArticlePO po);
 }
@@ -2,7 +2,14 @@ package com.echologue.infrastructure.persistence.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.echologue.infrastructure.persistence.po.ArticleTagPO;
+import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 文章标签关联Mapper
@@ -11,4 +18,19 @@ import org.apache.ibatis.annotations.Mapper;
  */
 @Mapper
 public interface ArticleTagMapper extends BaseMapper<ArticleTagPO> {
+
+    /**
+     * 批量插入文章的标签关联（单条多行INSERT）
+     */
+    @Insert("<script>INSERT INTO article_tag (article_id, tag_id) VALUES "
+            + "<foreach collection='tagIds' item='tagId' separator=','>(#{articleId}, #{tagId})</foreach>"
+            + "</script>")
+    int insertBatch(@Param("articleId") Long articleId, @Param("tagIds") Collection<Long> tagIds);
+
+    /**
+     * 按标签统计指定状态的文章数（列：tag_id、total）
+     */
+    @Select("SELECT t.tag_id, COUNT(*) AS total FROM article_tag t JOIN article a ON a.id = t.article_id "
+            + "WHERE a.status = #{status} GROUP BY t.tag_id")
+    List<Map<String, Object>> countByTag(@Param("status") String status);
 }
@@ -55,6 +55,12 @@ public class ArticlePO {
      */
     private String contentType;
     
+    /**
+     * 正文HTML（体积较大，查询实体时不读取，由正文HTML仓储按需读取）
+     */
+    @TableField(select = false)
+    private String contentHtml;
+    
     /**
      * 状态
      */
@@ -0,0 +1,84 @@
+package com.echologue.infrastructure.persistence.po;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 文章列表投影（不含 content 列）
+ *
+ * @author Echologue
+ */
+@Data
+public class ArticleSummaryPO {
+
+    /**
+     * 文章ID
+     */
+    private Long id;
+
+    /**
+     * 作者ID
+     */
+    private Long authorId;
+
+    /**
+     * 标题
+     */
+    private String title;
+
+    /**
+     * URL别名
+     */
+    private String slug;
+
+    /**
+     * 摘要
+     */
+    private String summary;
+
+    /**
+     * 封面图
+     */
+    private String cover;
+
+    /**
+     * 状态
+     */
+    private String status;
+
+    /**
+     * 分类ID
+     */
+    private Long categoryId;
+
+    /**
+     * 浏览量
+     */
+    private Integer views;
+
+    /**
+     * 点赞数
+     */
+    private Integer likes;
+
+    /**
+     * 评论数
+     */
+    private Integer commentCount;
+
+    /**
+     * 发布时间
+     */
+    private LocalDateTime publishedAt;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updatedAt;
+}
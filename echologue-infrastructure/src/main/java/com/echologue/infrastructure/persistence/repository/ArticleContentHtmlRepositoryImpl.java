@@ -0,0 +1,60 @@
+package com.echologue.infrastructure.persistence.repository;
+
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.repository.IArticleContentHtmlRepository;
+import com.echologue.infrastructure.persistence.mapper.ArticleMapper;
+import com.echologue.infrastructure.render.MarkdownContentRenderer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * 文章正文HTML仓储实现
+ * <p>
+ * 缓存键为“文章ID:版本号”，文章每次修改版本号递增，旧版本的条目不会再被命中，随容量和过期时间淘汰。
+ * 未命中时读取发布/更新时保存的 content_html；历史数据没有该列的值时现场渲染一次并缓存。
+ *
+ * @author Echologue
+ */
+@Repository
+public class ArticleContentHtmlRepositoryImpl implements IArticleContentHtmlRepository {
+
+    private final ArticleMapper articleMapper;
+
+    private final MarkdownContentRenderer markdownContentRenderer;
+
+    private final Cache<String, String> cache;
+
+    public ArticleContentHtmlRepositoryImpl(ArticleMapper articleMapper,
+                                            MarkdownContentRenderer markdownContentRenderer,
+                                            @Value("${echologue.article.html-cache.max-weight:67108864}") long maxWeight,
+                                            @Value("${echologue.article.html-cache.ttl-seconds:3600}") long ttlSeconds) {
+        this.articleMapper = articleMapper;
+        this.markdownContentRenderer = markdownContentRenderer;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String key, String html) -> html.length() * 2)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @Override
+    public String findContentHtml(Article article) {
+        if (!MarkdownContentRenderer.supports(article.getContentType())) {
+            return null;
+        }
+        String key = article.getId().getValue() + ":" + article.getVersion();
+        return cache.get(key, k -> load(article));
+    }
+
+    private String load(Article article) {
+        String html = articleMapper.selectContentHtml(article.getId().getValue(), article.getVersion());
+        if (html == null) {
+            html = markdownContentRenderer.render(article.getContent(), article.getContentType());
+        }
+        return html;
+    }
+}
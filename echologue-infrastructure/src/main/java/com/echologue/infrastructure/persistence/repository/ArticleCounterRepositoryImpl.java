@@ -0,0 +1,160 @@
+package com.echologue.infrastructure.persistence.repository;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import com.echologue.domain.article.repository.IArticleCounterRepository;
+import com.echologue.domain.user.model.UserId;
+import com.echologue.infrastructure.persistence.mapper.ArticleMapper;
+import com.echologue.infrastructure.persistence.po.ArticlePO;
+import com.echologue.infrastructure.support.TransactionCallbacks;
+import com.echologue.types.enums.ArticleStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 文章计数器仓储实现
+ * <p>
+ * 计数首次读取时从数据库加载，之后只在事务提交后做增量调整；定时对账修正并发加载造成的偏差。
+ *
+ * @author Echologue
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ArticleCounterRepositoryImpl implements IArticleCounterRepository {
+
+    /**
+     * 未加载标记
+     */
+    private static final long UNLOADED = -1L;
+
+    /**
+     * 对账时每批查询的作者数
+     */
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final ArticleMapper articleMapper;
+
+    /**
+     * 已发布文章总数
+     */
+    private final AtomicLong published = new AtomicLong(UNLOADED);
+
+    /**
+     * 作者文章总数：作者ID -> 数量
+     */
+    private final ConcurrentHashMap<Long, AtomicLong> authorCounts = new ConcurrentHashMap<>();
+
+    @Override
+    public long countPublished() {
+        long value = published.get();
+        if (value == UNLOADED) {
+            long loaded = loadPublished();
+            published.compareAndSet(UNLOADED, loaded);
+            value = published.get();
+        }
+        return value;
+    }
+
+    @Override
+    public long countByAuthorId(UserId authorId) {
+        AtomicLong counter = authorCounts.get(authorId.getValue());
+        if (counter == null) {
+            AtomicLong loaded = new AtomicLong(loadByAuthorId(authorId.getValue()));
+            AtomicLong existing = authorCounts.putIfAbsent(authorId.getValue(), loaded);
+            counter = existing != null ? existing : loaded;
+        }
+        return counter.get();
+    }
+
+    @Override
+    public void adjustPublished(long delta) {
+        if (delta == 0) {
+            return;
+        }
+        // 尚未加载时无需调整，首次读取会拿到提交后的值
+        TransactionCallbacks.afterCommit(() -> published.updateAndGet(v -> v == UNLOADED ? v : v + delta));
+    }
+
+    @Override
+    public void adjustAuthor(UserId authorId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            AtomicLong counter = authorCounts.get(authorId.getValue());
+            if (counter != null) {
+                counter.addAndGet(delta);
+            }
+        });
+    }
+
+    /**
+     * 定时对账
+     */
+    @Scheduled(fixedDelayString = "${echologue.article.counter-reconcile-interval:300000}",
+            initialDelayString = "${echologue.article.counter-reconcile-interval:300000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("文章计数对账失败", e);
+        }
+    }
+
+    @Override
+    public void reconcile() {
+        if (published.get() != UNLOADED) {
+            long actual = loadPublished();
+            long cached = published.getAndSet(actual);
+            if (cached != actual) {
+                log.info("已发布文章数对账修正：{} -> {}", cached, actual);
+            }
+        }
+
+        List<Long> authorIds = new ArrayList<>(authorCounts.keySet());
+        for (int from = 0; from < authorIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = authorIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, authorIds.size()));
+            Map<Long, Long> actualCounts = loadByAuthorIds(batch);
+            for (Long authorId : batch) {
+                AtomicLong counter = authorCounts.get(authorId);
+                if (counter != null) {
+                    counter.set(actualCounts.getOrDefault(authorId, 0L));
+                }
+            }
+        }
+    }
+
+    private long loadPublished() {
+        LambdaQueryWrapper<ArticlePO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(ArticlePO::getStatus, ArticleStatus.PUBLISHED.getCode());
+        return articleMapper.selectCount(wrapper);
+    }
+
+    private long loadByAuthorId(Long authorId) {
+        LambdaQueryWrapper<ArticlePO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(ArticlePO::getAuthorId, authorId);
+        return articleMapper.selectCount(wrapper);
+    }
+
+    private Map<Long, Long> loadByAuthorIds(List<Long> authorIds) {
+        QueryWrapper<ArticlePO> wrapper = new QueryWrapper<>();
+        wrapper.select("author_id", "COUNT(*) AS total")
+                .in("author_id", authorIds)
+                .groupBy("author_id");
+        Map<Long, Long> counts = new HashMap<>(authorIds.size() * 2);
+        for (Map<String, Object> row : articleMapper.selectMaps(wrapper)) {
+            counts.put(((Number) row.get("author_id")).longValue(), ((Number) row.get("total")).longValue());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,81 @@
+package com.echologue.infrastructure.persistence.repository;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.repository.IArticleExportRepository;
+import com.echologue.infrastructure.persistence.converter.ArticlePOConverter;
+import com.echologue.infrastructure.persistence.mapper.ArticleMapper;
+import com.echologue.infrastructure.persistence.mapper.ArticleTagMapper;
+import com.echologue.infrastructure.persistence.po.ArticlePO;
+import com.echologue.infrastructure.persistence.po.ArticleTagPO;
+import com.echologue.types.enums.ArticleStatus;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 文章导出仓储实现
+ * <p>
+ * 文章行通过独立会话上的 MyBatis 游标逐行读取（独占一个连接），
+ * 每批文章的标签用一次IN查询补齐，走Spring管理的另一个连接。
+ *
+ * @author Echologue
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleExportRepositoryImpl implements IArticleExportRepository {
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final ArticleTagMapper articleTagMapper;
+    private final ArticlePOConverter articlePOConverter;
+
+    @Override
+    public void forEachBatch(ArticleStatus status, int batchSize, Consumer<List<Article>> consumer) {
+        String statusCode = status == null ? null : status.getCode();
+        try (SqlSession session = sqlSessionFactory.openSession();
+             Cursor<ArticlePO> cursor = session.getMapper(ArticleMapper.class).selectExportCursor(statusCode)) {
+            List<ArticlePO> batch = new ArrayList<>(batchSize);
+            for (ArticlePO po : cursor) {
+                batch.add(po);
+                if (batch.size() == batchSize) {
+                    consumer.accept(toArticles(batch));
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                consumer.accept(toArticles(batch));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("关闭导出游标失败", e);
+        }
+    }
+
+    private List<Article> toArticles(List<ArticlePO> pos) {
+        List<Long> articleIds = new ArrayList<>(pos.size());
+        for (ArticlePO po : pos) {
+            articleIds.add(po.getId());
+        }
+        LambdaQueryWrapper<ArticleTagPO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.in(ArticleTagPO::getArticleId, articleIds);
+        Map<Long, List<Long>> tagIdsMap = new HashMap<>(pos.size() * 2);
+        for (ArticleTagPO tagPO : articleTagMapper.selectList(wrapper)) {
+            tagIdsMap.computeIfAbsent(tagPO.getArticleId(), id -> new ArrayList<>()).add(tagPO.getTagId());
+        }
+
+        List<Article> articles = new ArrayList<>(pos.size());
+        for (ArticlePO po : pos) {
+            articles.add(articlePOConverter.toDomain(po, tagIdsMap.getOrDefault(po.getId(), new ArrayList<>())));
+        }
+        return articles;
+    }
+}
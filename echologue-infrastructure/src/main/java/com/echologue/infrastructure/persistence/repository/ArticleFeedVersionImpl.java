@@ -0,0 +1,40 @@
+package com.echologue.infrastructure.persistence.repository;
+
+import com.echologue.domain.article.repository.IArticleFeedVersion;
+import com.echologue.infrastructure.support.TransactionCallbacks;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 文章列表版本戳实现
+ * <p>
+ * 版本以启动时间为初值，重启后不会与之前签发的版本重复。
+ *
+ * @author Echologue
+ */
+@Repository
+public class ArticleFeedVersionImpl implements IArticleFeedVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    private volatile long lastModified = System.currentTimeMillis();
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    @Override
+    public long lastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public void bump() {
+        TransactionCallbacks.afterCommit(() -> {
+            lastModified = System.currentTimeMillis();
+            version.incrementAndGet();
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.echologue.infrastructure.persistence.repository;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.model.ArticleId;
+import com.echologue.domain.article.repository.IArticleImportRepository;
+import com.echologue.infrastructure.persistence.converter.ArticlePOConverter;
+import com.echologue.infrastructure.persistence.mapper.ArticleMapper;
+import com.echologue.infrastructure.persistence.mapper.ArticleTagMapper;
+import com.echologue.infrastructure.persistence.po.ArticlePO;
+import com.echologue.infrastructure.persistence.po.ArticleTagPO;
+import com.echologue.infrastructure.support.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.MyBatisExceptionTranslator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 文章批量导入仓储实现
+ * <p>
+ * 在当前事务的连接上打开 BATCH 会话：文章和标签关联各作为一组JDBC批量语句执行，
+ * 驱动开启 {@code rewriteBatchedStatements} 时改写为多行INSERT。
+ * 不依赖批量语句返回的自增主键，写入后按slug（唯一索引）一次查回ID。
+ * BATCH 会话不经过 SqlSessionTemplate，写入异常在这里转换为Spring的数据访问异常（slug冲突为 DuplicateKeyException）。
+ *
+ * @author Echologue
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleImportRepositoryImpl implements IArticleImportRepository {
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final ArticleMapper articleMapper;
+    private final ArticlePOConverter articlePOConverter;
+    private final ArticleSlugIndex slugIndex;
+
+    @Override
+    public Set<String> findExistingSlugs(Collection<String> slugs) {
+        if (slugs.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return findIdsBySlugs(slugs).keySet();
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void insertAll(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return;
+        }
+        List<String> slugs = new ArrayList<>(articles.size());
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            ArticleMapper batchArticleMapper = session.getMapper(ArticleMapper.class);
+            for (Article article : articles) {
+                batchArticleMapper.insertImported(articlePOConverter.toPO(article));
+                slugs.add(article.getSlug().getValue());
+            }
+            session.flushStatements();
+
+            Map<String, Long> ids = findIdsBySlugs(slugs);
+            ArticleTagMapper batchTagMapper = session.getMapper(ArticleTagMapper.class);
+            for (Article article : articles) {
+                Long id = ids.get(article.getSlug().getValue());
+                article.setId(ArticleId.of(id));
+                List<Long> tagIds = article.getTagIds() == null ? new ArrayList<>() : article.getTagIds();
+                for (Long tagId : new LinkedHashSet<>(tagIds)) {
+                    batchTagMapper.insert(new ArticleTagPO(id, tagId));
+                }
+                article.markTagsPersisted(tagIds);
+                article.markClean();
+            }
+            session.flushStatements();
+        } catch (PersistenceException e) {
+            DataSource dataSource = sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
+            DataAccessException translated =
+                    new MyBatisExceptionTranslator(dataSource, true).translateExceptionIfPossible(e);
+            throw translated != null ? translated : e;
+        }
+
+        TransactionCallbacks.afterCommit(() -> articles.forEach(
+                article -> slugIndex.put(article.getSlug().getValue(), article.getId().getValue())));
+    }
+
+    private Map<String, Long> findIdsBySlugs(Collection<String> slugs) {
+        LambdaQueryWrapper<ArticlePO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(ArticlePO::getId, ArticlePO::getSlug)
+                .in(ArticlePO::getSlug, new HashSet<>(slugs));
+        List<ArticlePO> pos = articleMapper.selectList(wrapper);
+        Map<String, Long> ids = new HashMap<>(pos.size() * 2);
+        for (ArticlePO po : pos) {
+            ids.put(po.getSlug(), po.getId());
+        }
+        return ids;
+    }
+}
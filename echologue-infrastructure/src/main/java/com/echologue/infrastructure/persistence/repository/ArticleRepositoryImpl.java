@@ -1,24 +1,38 @@
 package com.echologue.infrastructure.persistence.repository;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.baomidou.mybatisplus.core.metadata.IPage;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.model.ArticleField;
 import com.echologue.domain.article.model.ArticleId;
+import com.echologue.domain.article.model.ArticleSummary;
 import com.echologue.domain.article.model.Slug;
-import com.echologue.domain.article.model.Title;
 import com.echologue.domain.article.repository.IArticleRepository;
 import com.echologue.domain.user.model.UserId;
+import com.echologue.infrastructure.persistence.converter.ArticlePOConverter;
 import com.echologue.infrastructure.persistence.mapper.ArticleMapper;
 import com.echologue.infrastructure.persistence.mapper.ArticleTagMapper;
 import com.echologue.infrastructure.persistence.po.ArticlePO;
+import com.echologue.infrastructure.persistence.po.ArticleSummaryPO;
 import com.echologue.infrastructure.persistence.po.ArticleTagPO;
 import com.echologue.types.enums.ArticleStatus;
+import com.echologue.types.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -32,35 +46,15 @@ public class ArticleRepositoryImpl implements IArticleRepository {
     
     private final ArticleMapper articleMapper;
     private final ArticleTagMapper articleTagMapper;
+    private final ArticlePOConverter articlePOConverter;
     
     @Override
     @Transactional(rollbackFor = Exception.class)
     public Article save(Article article) {
-        ArticlePO po = convertToPO(article);
-        
-        if (po.getId() == null) {
-            // 新增
-            articleMapper.insert(po);
-        } else {
-            // 更新
-            articleMapper.updateById(po);
-        }
-        
-        // 处理标签关联
-        if (article.getTagIds() != null && !article.getTagIds().isEmpty()) {
-            // 删除旧的标签关联
-            LambdaQueryWrapper<ArticleTagPO> wrapper = new LambdaQueryWrapper<>();
-            wrapper.eq(ArticleTagPO::getArticleId, po.getId());
-            articleTagMapper.delete(wrapper);
-            
-            // 插入新的标签关联
-            for (Long tagId : article.getTagIds()) {
-                ArticleTagPO tagPO = new ArticleTagPO(po.getId(), tagId);
-                articleTagMapper.insert(tagPO);
-            }
+        if (article.getId() == null) {
+            return insert(article);
         }
-        
-        return convertToDomain(po, article.getTagIds());
+        return update(article);
     }
     
     @Override
@@ -73,7 +67,18 @@ public class ArticleRepositoryImpl implements IArticleRepository {
         // 查询标签
         List<Long> tagIds = findTagIdsByArticleId(articleId.getValue());
         
-        return Optional.of(convertToDomain(po, tagIds));
+        return Optional.of(articlePOConverter.toDomain(po, tagIds));
+    }
+    
+    @Override
+    public Optional<Article> findBySlug(Slug slug) {
+        LambdaQueryWrapper<ArticlePO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(ArticlePO::getSlug, slug.getValue());
+        ArticlePO po = articleMapper.selectOne(wrapper);
+        if (po == null) {
+            return Optional.empty();
+        }
+        return Optional.of(articlePOConverter.toDomain(po, findTagIdsByArticleId(po.getId())));
     }
     
     @Override
@@ -85,12 +90,7 @@ public class ArticleRepositoryImpl implements IArticleRepository {
         
         Page<ArticlePO> result = articleMapper.selectPage(pageParam, wrapper);
         
-        return result.getRecords().stream()
-                .map(po -> {
-                    List<Long> tagIds = findTagIdsByArticleId(po.getId());
-                    return convertToDomain(po, tagIds);
-                })
-                .collect(Collectors.toList());
+        return convertToDomainList(result.getRecords());
     }
     
     @Override
@@ -102,12 +102,47 @@ public class ArticleRepositoryImpl implements IArticleRepository {
         
         Page<ArticlePO> result = articleMapper.selectPage(pageParam, wrapper);
         
-        return result.getRecords().stream()
-                .map(po -> {
-                    List<Long> tagIds = findTagIdsByArticleId(po.getId());
-                    return convertToDomain(po, tagIds);
-                })
+        return convertToDomainList(result.getRecords());
+    }
+    
+    @Override
+    public List<ArticleSummary> findPublishedSummaries(int page, int size) {
+        // 总数由调用方单独统计，这里关闭分页插件的COUNT查询
+        Page<ArticleSummaryPO> pageParam = new Page<>(page, size, false);
+        IPage<ArticleSummaryPO> result = articleMapper.selectSummaryPageByStatus(
+                pageParam, ArticleStatus.PUBLISHED.getCode());
+        return convertToSummaryList(result.getRecords());
+    }
+    
+    @Override
+    public List<ArticleSummary> findPublishedSummariesAfter(LocalDateTime publishedAt, Long id, int size) {
+        List<ArticleSummaryPO> pos = articleMapper.selectSummariesByStatusAfter(
+                ArticleStatus.PUBLISHED.getCode(), publishedAt, id, size);
+        return convertToSummaryList(pos);
+    }
+    
+    @Override
+    public List<ArticleSummary> findPublishedSummariesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ArticleSummaryPO> pos = articleMapper.selectSummariesByStatusAndIds(
+                ArticleStatus.PUBLISHED.getCode(), ids);
+        Map<Long, ArticleSummaryPO> byId = pos.stream()
+                .collect(Collectors.toMap(ArticleSummaryPO::getId, po -> po));
+        List<ArticleSummaryPO> ordered = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        return convertToSummaryList(ordered);
+    }
+    
+    @Override
+    public List<ArticleSummary> findSummariesByAuthorId(UserId authorId, int page, int size) {
+        Page<ArticleSummaryPO> pageParam = new Page<>(page, size, false);
+        IPage<ArticleSummaryPO> result = articleMapper.selectSummaryPageByAuthorId(
+                pageParam, authorId.getValue());
+        return convertToSummaryList(result.getRecords());
     }
     
     @Override
@@ -134,12 +169,7 @@ public class ArticleRepositoryImpl implements IArticleRepository {
         
         Page<ArticlePO> result = articleMapper.selectPage(pageParam, wrapper);
         
-        return result.getRecords().stream()
-                .map(po -> {
-                    List<Long> tagIds = findTagIdsByArticleId(po.getId());
-                    return convertToDomain(po, tagIds);
-                })
-                .collect(Collectors.toList());
+        return convertToDomainList(result.getRecords());
     }
     
     @Override
@@ -154,6 +184,132 @@ public class ArticleRepositoryImpl implements IArticleRepository {
         articleTagMapper.delete(wrapper);
     }
     
+    /**
+     * 新增文章
+     */
+    private Article insert(Article article) {
+        ArticlePO po = articlePOConverter.toPO(article);
+        articleMapper.insert(po);
+        
+        List<Long> tagIds = article.getTagIds() == null ? new ArrayList<>() : article.getTagIds();
+        saveTagChanges(po.getId(), Collections.emptyList(), tagIds);
+        
+        return articlePOConverter.toDomain(po, tagIds);
+    }
+    
+    /**
+     * 更新文章：只写被修改的列，没有修改时不执行SQL
+     * <p>
+     * 浏览量由计数器增量维护，这里不覆盖；乐观锁插件仍会追加 {@code version = ?} 条件并递增版本号。
+     */
+    private Article update(Article article) {
+        Long articleId = article.getId().getValue();
+        
+        Set<ArticleField> dirtyFields = article.getDirtyFields();
+        if (!dirtyFields.isEmpty()) {
+            ArticlePO po = new ArticlePO();
+            po.setVersion(article.getVersion());
+            // 显式写入更新时间，避免自动填充改动未修改文章的时间戳
+            po.setUpdatedAt(article.getUpdatedAt());
+            
+            LambdaUpdateWrapper<ArticlePO> wrapper = new LambdaUpdateWrapper<>();
+            wrapper.eq(ArticlePO::getId, articleId);
+            for (ArticleField field : dirtyFields) {
+                setColumn(wrapper, field, article);
+            }
+            
+            if (articleMapper.update(po, wrapper) == 0) {
+                throw new BusinessException(409, "文章已被修改，请刷新后重试");
+            }
+            article.setVersion(po.getVersion());
+        }
+        
+        // 处理标签关联（tagIds为null表示未修改标签）
+        List<Long> tagIds = article.getTagIds();
+        if (tagIds != null) {
+            List<Long> persistedTagIds = article.getPersistedTagIds();
+            if (persistedTagIds == null) {
+                persistedTagIds = findTagIdsByArticleId(articleId);
+            }
+            saveTagChanges(articleId, persistedTagIds, tagIds);
+        } else {
+            tagIds = article.getPersistedTagIds();
+            article.setTagIds(tagIds == null ? null : new ArrayList<>(tagIds));
+        }
+        
+        article.markTagsPersisted(tagIds);
+        article.markClean();
+        return article;
+    }
+    
+    /**
+     * 将被修改的字段写入更新条件（使用SET子句，值为null时同样生效）
+     */
+    private void setColumn(LambdaUpdateWrapper<ArticlePO> wrapper, ArticleField field, Article article) {
+        switch (field) {
+            case TITLE:
+                wrapper.set(ArticlePO::getTitle, article.getTitle().getValue());
+                break;
+            case SUMMARY:
+                wrapper.set(ArticlePO::getSummary, article.getSummary());
+                break;
+            case COVER:
+                wrapper.set(ArticlePO::getCover, article.getCover());
+                break;
+            case CONTENT:
+                wrapper.set(ArticlePO::getContent, article.getContent());
+                break;
+            case CONTENT_TYPE:
+                wrapper.set(ArticlePO::getContentType, article.getContentType());
+                break;
+            case CONTENT_HTML:
+                wrapper.set(ArticlePO::getContentHtml, article.getContentHtml());
+                break;
+            case STATUS:
+                wrapper.set(ArticlePO::getStatus, article.getStatus().getCode());
+                break;
+            case CATEGORY_ID:
+                wrapper.set(ArticlePO::getCategoryId, article.getCategoryId());
+                break;
+            case LIKES:
+                wrapper.set(ArticlePO::getLikes, article.getLikes());
+                break;
+            case COMMENT_COUNT:
+                wrapper.set(ArticlePO::getCommentCount, article.getCommentCount());
+                break;
+            case PUBLISHED_AT:
+                wrapper.set(ArticlePO::getPublishedAt, article.getPublishedAt());
+                break;
+            case UPDATED_AT:
+            default:
+                // 更新时间随实体写入
+                break;
+        }
+    }
+    
+    /**
+     * 增量写入标签关联：只删除移除的、只插入新增的，集合未变化时不执行SQL
+     */
+    private void saveTagChanges(Long articleId, List<Long> oldTagIds, List<Long> newTagIds) {
+        Set<Long> oldSet = new LinkedHashSet<>(oldTagIds);
+        Set<Long> newSet = new LinkedHashSet<>(newTagIds);
+        
+        Set<Long> removed = new LinkedHashSet<>(oldSet);
+        removed.removeAll(newSet);
+        Set<Long> added = new LinkedHashSet<>(newSet);
+        added.removeAll(oldSet);
+        
+        if (!removed.isEmpty()) {
+            LambdaQueryWrapper<ArticleTagPO> wrapper = new LambdaQueryWrapper<>();
+            wrapper.eq(ArticleTagPO::getArticleId, articleId)
+                    .in(ArticleTagPO::getTagId, removed);
+            articleTagMapper.delete(wrapper);
+        }
+        if (!added.isEmpty()) {
+            articleTagMapper.insertBatch(articleId, added);
+        }
+    }
+    
     /**
      * 查询文章的标签ID列表
      */
@@ -166,55 +322,40 @@ public class ArticleRepositoryImpl implements IArticleRepository {
     }
     
     /**
-     * PO转Domain
+     * 批量查询文章的标签ID列表（一次IN查询）
      */
-    private Article convertToDomain(ArticlePO po, List<Long> tagIds) {
-        return Article.builder()
-                .id(ArticleId.of(po.getId()))
-                .authorId(UserId.of(po.getAuthorId()))
-                .title(Title.of(po.getTitle()))
-                .slug(Slug.of(po.getSlug()))
-                .summary(po.getSummary())
-                .cover(po.getCover())
-                .content(po.getContent())
-                .contentType(po.getContentType())
-                .status(ArticleStatus.of(po.getStatus()))
-                .categoryId(po.getCategoryId())
-                .tagIds(tagIds)
-                .views(po.getViews())
-                .likes(po.getLikes())
-                .commentCount(po.getCommentCount())
-                .publishedAt(po.getPublishedAt())
-                .createdAt(po.getCreatedAt())
-                .updatedAt(po.getUpdatedAt())
-                .version(po.getVersion())
-                .build();
+    private Map<Long, List<Long>> findTagIdsByArticleIds(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        LambdaQueryWrapper<ArticleTagPO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.in(ArticleTagPO::getArticleId, articleIds);
+        Map<Long, List<Long>> tagIdsMap = new HashMap<>(articleIds.size() * 2);
+        for (ArticleTagPO tagPO : articleTagMapper.selectList(wrapper)) {
+            tagIdsMap.computeIfAbsent(tagPO.getArticleId(), id -> new ArrayList<>()).add(tagPO.getTagId());
+        }
+        return tagIdsMap;
     }
     
     /**
-     * Domain转PO
+     * PO列表转Domain列表（标签批量加载）
      */
-    private ArticlePO convertToPO(Article article) {
-        ArticlePO po = new ArticlePO();
-        if (article.getId() != null) {
-            po.setId(article.getId().getValue());
-        }
-        po.setAuthorId(article.getAuthorId().getValue());
-        po.setTitle(article.getTitle().getValue());
-        po.setSlug(article.getSlug().getValue());
-        po.setSummary(article.getSummary());
-        po.setCover(article.getCover());
-        po.setContent(article.getContent());
-        po.setContentType(article.getContentType());
-        po.setStatus(article.getStatus().getCode());
-        po.setCategoryId(article.getCategoryId());
-        po.setViews(article.getViews());
-        po.setLikes(article.getLikes());
-        po.setCommentCount(article.getCommentCount());
-        po.setPublishedAt(article.getPublishedAt());
-        po.setCreatedAt(article.getCreatedAt());
-        po.setUpdatedAt(article.getUpdatedAt());
-        po.setVersion(article.getVersion());
-        return po;
+    private List<Article> convertToDomainList(List<ArticlePO> pos) {
+        List<Long> articleIds = pos.stream().map(ArticlePO::getId).collect(Collectors.toList());
+        Map<Long, List<Long>> tagIdsMap = findTagIdsByArticleIds(articleIds);
+        return pos.stream()
+                .map(po -> articlePOConverter.toDomain(po, tagIdsMap.getOrDefault(po.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 列表投影转摘要读模型（标签批量加载）
+     */
+    private List<ArticleSummary> convertToSummaryList(List<ArticleSummaryPO> pos) {
+        List<Long> articleIds = pos.stream().map(ArticleSummaryPO::getId).collect(Collectors.toList());
+        Map<Long, List<Long>> tagIdsMap = findTagIdsByArticleIds(articleIds);
+        return pos.stream()
+                .map(po -> articlePOConverter.toSummary(po, tagIdsMap.getOrDefault(po.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
     }
 }
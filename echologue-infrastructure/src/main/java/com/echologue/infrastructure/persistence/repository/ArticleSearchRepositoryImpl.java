@@ -0,0 +1,291 @@
+package com.echologue.infrastructure.persistence.repository;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.model.ArticleId;
+import com.echologue.domain.article.model.ArticleSearchResult;
+import com.echologue.domain.article.repository.IArticleSearchRepository;
+import com.echologue.infrastructure.persistence.mapper.ArticleMapper;
+import com.echologue.infrastructure.persistence.po.ArticlePO;
+import com.echologue.infrastructure.search.CjkBigramTokenizer;
+import com.echologue.infrastructure.search.IndexSegmentStore;
+import com.echologue.infrastructure.search.IndexedDocument;
+import com.echologue.infrastructure.search.InvertedIndex;
+import com.echologue.infrastructure.support.TransactionCallbacks;
+import com.echologue.types.enums.ArticleStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 文章全文检索仓储实现（进程内倒排索引）
+ * <p>
+ * 标题、摘要、正文按权重合并后用二元分词建立索引，BM25排序。写入在事务提交后更新内存索引，
+ * 并由定时任务以增量段落盘；增量段过多时合并为一个基础段。启动时加载段文件，
+ * 再按文章ID和版本号与数据库对账，补齐未落盘或其他实例写入的变更（首次启动即为全量构建）。
+ *
+ * @author Echologue
+ */
+@Slf4j
+@Repository
+public class ArticleSearchRepositoryImpl implements IArticleSearchRepository {
+
+    private static final int TITLE_WEIGHT = 3;
+
+    private static final int SUMMARY_WEIGHT = 2;
+
+    private static final int CONTENT_WEIGHT = 1;
+
+    /**
+     * 对账时每批加载的文章数
+     */
+    private static final int RECONCILE_BATCH_SIZE = 200;
+
+    private final ArticleMapper articleMapper;
+
+    private final IndexSegmentStore segmentStore;
+
+    private final int maxDeltaSegments;
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    /**
+     * 已写入内存索引、尚未落盘的记录（与索引的修改在同一把锁内追加，保证顺序一致）
+     */
+    private final List<IndexedDocument> pending = new ArrayList<>();
+
+    private final Object flushLock = new Object();
+
+    /**
+     * 下次落盘是否需要写入完整的基础段（加载或落盘失败后置位）
+     */
+    private volatile boolean baseRequired;
+
+    public ArticleSearchRepositoryImpl(ArticleMapper articleMapper,
+                                       @Value("${echologue.search.index-dir:./data/search-index}") String indexDir,
+                                       @Value("${echologue.search.max-delta-segments:16}") int maxDeltaSegments) {
+        this.articleMapper = articleMapper;
+        this.segmentStore = new IndexSegmentStore(Paths.get(indexDir));
+        this.maxDeltaSegments = maxDeltaSegments;
+    }
+
+    /**
+     * 加载段文件
+     */
+    @PostConstruct
+    public void load() {
+        try {
+            index.applyAll(segmentStore.load());
+            log.info("全文索引加载完成，文档数：{}", index.size());
+        } catch (IOException e) {
+            log.warn("全文索引段文件加载失败，将从数据库重建", e);
+            baseRequired = true;
+        }
+    }
+
+    @Override
+    public void index(Article article) {
+        long id = article.getId().getValue();
+        if (!article.isPublished()) {
+            TransactionCallbacks.afterCommit(() -> apply(IndexedDocument.tombstone(id)));
+            return;
+        }
+        int version = article.getVersion() == null ? 0 : article.getVersion();
+        String title = article.getTitle().getValue();
+        String summary = article.getSummary();
+        String content = article.getContent();
+        TransactionCallbacks.afterCommit(() -> apply(toDocument(id, version, title, summary, content)));
+    }
+
+    @Override
+    public void remove(ArticleId articleId) {
+        long id = articleId.getValue();
+        TransactionCallbacks.afterCommit(() -> apply(IndexedDocument.tombstone(id)));
+    }
+
+    @Override
+    public ArticleSearchResult search(String keyword, int offset, int limit) {
+        return index.search(CjkBigramTokenizer.tokenize(keyword), offset, limit);
+    }
+
+    /**
+     * 定时将增量写入段文件
+     */
+    @Scheduled(fixedDelayString = "${echologue.search.flush-interval:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 应用关闭前落盘
+     */
+    @PreDestroy
+    public void shutdownFlush() {
+        flush();
+    }
+
+    /**
+     * 将未落盘的记录写为增量段；增量段达到上限或需要重建时写入基础段
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            List<IndexedDocument> batch;
+            synchronized (this) {
+                batch = new ArrayList<>(pending);
+                pending.clear();
+            }
+            if (batch.isEmpty() && !baseRequired) {
+                return;
+            }
+            try {
+                if (baseRequired || segmentStore.deltaCount() >= maxDeltaSegments) {
+                    // 基础段包含当前索引的全部文档，本批记录已在其中
+                    segmentStore.writeBase(index.documents());
+                    baseRequired = false;
+                } else {
+                    segmentStore.appendDelta(batch);
+                }
+            } catch (IOException e) {
+                log.error("全文索引落盘失败，下次将写入完整的基础段", e);
+                baseRequired = true;
+            }
+        }
+    }
+
+    /**
+     * 启动后与数据库对账
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        scheduledReconcile();
+    }
+
+    /**
+     * 定时与数据库对账（同步其他实例的写入）
+     */
+    @Scheduled(fixedDelayString = "${echologue.search.reconcile-interval:600000}",
+            initialDelayString = "${echologue.search.reconcile-interval:600000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("全文索引对账失败", e);
+        }
+    }
+
+    /**
+     * 对账：收录缺失或版本不一致的已发布文章，移除已不再发布的文章
+     */
+    public void reconcile() {
+        Map<Long, Integer> indexed = index.versions();
+
+        LambdaQueryWrapper<ArticlePO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(ArticlePO::getId, ArticlePO::getVersion)
+                .eq(ArticlePO::getStatus, ArticleStatus.PUBLISHED.getCode());
+        List<ArticlePO> published = articleMapper.selectList(wrapper);
+
+        Set<Long> publishedIds = new HashSet<>(published.size() * 2);
+        List<Long> stale = new ArrayList<>();
+        for (ArticlePO po : published) {
+            publishedIds.add(po.getId());
+            if (!Objects.equals(indexed.get(po.getId()), po.getVersion())) {
+                stale.add(po.getId());
+            }
+        }
+
+        int removed = 0;
+        for (Map.Entry<Long, Integer> entry : indexed.entrySet()) {
+            if (!publishedIds.contains(entry.getKey())
+                    && applyIfUnchanged(IndexedDocument.tombstone(entry.getKey()), entry.getValue())) {
+                removed++;
+            }
+        }
+
+        int updated = 0;
+        for (int from = 0; from < stale.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> batch = stale.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, stale.size()));
+            LambdaQueryWrapper<ArticlePO> batchWrapper = new LambdaQueryWrapper<>();
+            batchWrapper.select(ArticlePO::getId, ArticlePO::getVersion, ArticlePO::getTitle,
+                            ArticlePO::getSummary, ArticlePO::getContent)
+                    .eq(ArticlePO::getStatus, ArticleStatus.PUBLISHED.getCode())
+                    .in(ArticlePO::getId, batch);
+            for (ArticlePO po : articleMapper.selectList(batchWrapper)) {
+                IndexedDocument document = toDocument(po.getId(), po.getVersion() == null ? 0 : po.getVersion(),
+                        po.getTitle(), po.getSummary(), po.getContent());
+                if (applyIfUnchanged(document, indexed.get(po.getId()))) {
+                    updated++;
+                }
+            }
+        }
+
+        if (removed > 0 || updated > 0) {
+            log.info("全文索引对账完成，更新：{}，移除：{}，文档数：{}", updated, removed, index.size());
+            flush();
+        }
+    }
+
+    /**
+     * 写入内存索引并记录待落盘
+     */
+    private synchronized void apply(IndexedDocument document) {
+        if (document.isDeleted() && index.version(document.getId()) == null) {
+            return;
+        }
+        index.apply(document);
+        pending.add(document);
+    }
+
+    /**
+     * 仅当索引中的版本仍是对账开始时的版本才写入，避免覆盖对账期间提交的新版本
+     */
+    private synchronized boolean applyIfUnchanged(IndexedDocument document, Integer expectedVersion) {
+        if (!Objects.equals(index.version(document.getId()), expectedVersion)) {
+            return false;
+        }
+        apply(document);
+        return true;
+    }
+
+    /**
+     * 分词并按字段权重合并词频
+     */
+    private static IndexedDocument toDocument(long id, int version, String title, String summary, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addField(frequencies, title, TITLE_WEIGHT)
+                + addField(frequencies, summary, SUMMARY_WEIGHT)
+                + addField(frequencies, content, CONTENT_WEIGHT);
+
+        String[] terms = new String[frequencies.size()];
+        int[] counts = new int[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            terms[i] = entry.getKey();
+            counts[i] = entry.getValue();
+            i++;
+        }
+        return new IndexedDocument(id, version, length, terms, counts);
+    }
+
+    private static int addField(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> tokens = CjkBigramTokenizer.tokenize(text);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+}
@@ -0,0 +1,99 @@
+package com.echologue.infrastructure.persistence.repository;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.echologue.infrastructure.persistence.mapper.ArticleMapper;
+import com.echologue.infrastructure.persistence.po.ArticlePO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 文章slug索引：slug -> 文章ID，常驻内存
+ * <p>
+ * 启动时加载全部文章的slug，之后随文章新增和删除维护。未命中时回退到 uk_slug 唯一索引查询
+ * （覆盖其他实例新增的文章），查不到的slug短时间内记为不存在，避免无效链接反复查库。
+ *
+ * @author Echologue
+ */
+@Slf4j
+@Component
+public class ArticleSlugIndex {
+
+    private final ArticleMapper articleMapper;
+
+    private final ConcurrentHashMap<String, Long> slugs = new ConcurrentHashMap<>();
+
+    /**
+     * 确认不存在的slug
+     */
+    private final Cache<String, Boolean> missing = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    public ArticleSlugIndex(ArticleMapper articleMapper) {
+        this.articleMapper = articleMapper;
+    }
+
+    /**
+     * 启动时加载
+     */
+    @PostConstruct
+    public void load() {
+        LambdaQueryWrapper<ArticlePO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(ArticlePO::getId, ArticlePO::getSlug)
+                .isNotNull(ArticlePO::getSlug);
+        for (ArticlePO po : articleMapper.selectList(wrapper)) {
+            slugs.put(po.getSlug(), po.getId());
+        }
+        log.info("文章slug索引加载完成，数量：{}", slugs.size());
+    }
+
+    /**
+     * 解析slug对应的文章ID，不存在时返回null
+     */
+    public Long resolve(String slug) {
+        Long id = slugs.get(slug);
+        if (id != null || missing.getIfPresent(slug) != null) {
+            return id;
+        }
+
+        LambdaQueryWrapper<ArticlePO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(ArticlePO::getId)
+                .eq(ArticlePO::getSlug, slug);
+        ArticlePO po = articleMapper.selectOne(wrapper);
+        if (po == null) {
+            missing.put(slug, Boolean.TRUE);
+            return null;
+        }
+        slugs.put(slug, po.getId());
+        return po.getId();
+    }
+
+    /**
+     * 记录新文章的slug
+     */
+    public void put(String slug, Long id) {
+        slugs.put(slug, id);
+        missing.invalidate(slug);
+    }
+
+    /**
+     * 移除slug
+     */
+    public void evict(String slug) {
+        slugs.remove(slug);
+    }
+
+    /**
+     * 按文章ID移除（删除文章时使用，需遍历，删除操作很少）
+     */
+    public void evictById(Long id) {
+        slugs.values().remove(id);
+    }
+}
@@ -0,0 +1,119 @@
+package com.echologue.infrastructure.persistence.repository;
+
+import com.echologue.domain.article.model.ArticleId;
+import com.echologue.domain.article.repository.IArticleViewCounter;
+import com.echologue.infrastructure.persistence.mapper.ArticleMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 文章浏览量计数器实现
+ * <p>
+ * 浏览增量按文章ID累加在内存中（ConcurrentHashMap.merge，按key原子累加），由定时任务和应用关闭时
+ * 以批量 {@code UPDATE article SET views = views + ?} 落库，请求线程不产生写操作。
+ * 取出增量时在同一步把它加到缓存中的聚合上，展示值（缓存值 + 未落库增量）不会因落库而回退；落库失败时再撤回。
+ *
+ * @author Echologue
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ArticleViewCounterImpl implements IArticleViewCounter {
+
+    /**
+     * 每批提交的语句数
+     */
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final CachedArticleRepository cachedArticleRepository;
+
+    /**
+     * 未落库的浏览增量：文章ID -> 增量
+     */
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(ArticleId articleId) {
+        pending.merge(articleId.getValue(), 1L, Long::sum);
+    }
+
+    @Override
+    public long pendingViews(ArticleId articleId) {
+        return pending.getOrDefault(articleId.getValue(), 0L);
+    }
+
+    /**
+     * 定时落库
+     */
+    @Scheduled(fixedDelayString = "${echologue.article.view-flush-interval:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 应用关闭前落库
+     */
+    @PreDestroy
+    public void shutdownFlush() {
+        flush();
+    }
+
+    /**
+     * 将缓冲的增量批量写入数据库，失败时从缓存撤回增量并回填，等待下次重试
+     */
+    public synchronized void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false)) {
+            ArticleMapper mapper = session.getMapper(ArticleMapper.class);
+            int count = 0;
+            for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+                mapper.incrementViews(entry.getKey(), entry.getValue());
+                if (++count % FLUSH_BATCH_SIZE == 0) {
+                    session.flushStatements();
+                }
+            }
+            session.flushStatements();
+            session.commit();
+            log.debug("浏览量落库完成，文章数：{}", deltas.size());
+        } catch (Exception e) {
+            log.error("浏览量落库失败，增量将在下次重试，文章数：{}", deltas.size(), e);
+            deltas.forEach((id, delta) -> pending.compute(id, (key, current) -> {
+                cachedArticleRepository.applyViewDelta(key, -delta);
+                return current == null ? delta : current + delta;
+            }));
+        }
+    }
+
+    /**
+     * 逐个移除并取出增量，同时加到缓存中的聚合上：computeIfPresent与merge对同一key互斥，
+     * 取出后的浏览会写入新条目，不会丢失；已落库的文章不再占用条目
+     */
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long id : pending.keySet()) {
+            pending.computeIfPresent(id, (key, delta) -> {
+                if (delta != 0) {
+                    cachedArticleRepository.applyViewDelta(key, delta);
+                    deltas.put(key, delta);
+                }
+                return null;
+            });
+        }
+        return deltas;
+    }
+}
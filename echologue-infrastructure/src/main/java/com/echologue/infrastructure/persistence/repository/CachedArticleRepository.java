@@ -0,0 +1,213 @@
+package com.echologue.infrastructure.persistence.repository;
+
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.article.model.ArticleField;
+import com.echologue.domain.article.model.ArticleId;
+import com.echologue.domain.article.model.ArticleSummary;
+import com.echologue.domain.article.model.Slug;
+import com.echologue.domain.article.repository.IArticleRepository;
+import com.echologue.domain.user.model.UserId;
+import com.echologue.infrastructure.support.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 带本地缓存的文章仓储（装饰 {@link ArticleRepositoryImpl}）
+ * <p>
+ * 缓存组装好的文章聚合，按估算字节数淘汰并设置过期时间；同一文章并发未命中时只加载一次。
+ * 保存和删除在当前事务提交前后各失效一次，避免并发读把旧数据写回缓存。
+ * 缓存中的对象不对外暴露，读取时返回副本。按slug查询先经内存slug索引解析出ID，再走同一份缓存。
+ *
+ * @author Echologue
+ */
+@Slf4j
+@Primary
+@Repository
+public class CachedArticleRepository implements IArticleRepository {
+
+    /**
+     * 非正文字段的估算开销（字节）
+     */
+    private static final int BASE_WEIGHT = 512;
+
+    private final ArticleRepositoryImpl delegate;
+
+    private final ArticleSlugIndex slugIndex;
+
+    private final Cache<Long, Article> cache;
+
+    public CachedArticleRepository(ArticleRepositoryImpl delegate,
+                                   ArticleSlugIndex slugIndex,
+                                   @Value("${echologue.article.cache.max-weight:67108864}") long maxWeight,
+                                   @Value("${echologue.article.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.delegate = delegate;
+        this.slugIndex = slugIndex;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher(CachedArticleRepository::weigh)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Article save(Article article) {
+        boolean created = article.getId() == null;
+        Article saved = delegate.save(article);
+        invalidate(saved.getId());
+        if (created) {
+            String slug = saved.getSlug().getValue();
+            Long id = saved.getId().getValue();
+            TransactionCallbacks.afterCommit(() -> slugIndex.put(slug, id));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Article> findById(ArticleId articleId) {
+        // 同一key并发未命中时只有一个线程执行加载，其余线程等待结果
+        Article cached = cache.get(articleId.getValue(), id -> delegate.findById(articleId).orElse(null));
+        return Optional.ofNullable(cached).map(CachedArticleRepository::copy);
+    }
+
+    @Override
+    public Optional<Article> findBySlug(Slug slug) {
+        Long id = slugIndex.resolve(slug.getValue());
+        if (id == null) {
+            return Optional.empty();
+        }
+        Optional<Article> article = findById(ArticleId.of(id));
+        if (article.isEmpty()) {
+            // 映射已失效（文章已在其他实例删除），清除后回退到唯一索引
+            slugIndex.evict(slug.getValue());
+            return delegate.findBySlug(slug);
+        }
+        return article;
+    }
+
+    @Override
+    public List<Article> findByAuthorId(UserId authorId, int page, int size) {
+        return delegate.findByAuthorId(authorId, page, size);
+    }
+
+    @Override
+    public List<Article> findPublished(int page, int size) {
+        return delegate.findPublished(page, size);
+    }
+
+    @Override
+    public List<ArticleSummary> findPublishedSummaries(int page, int size) {
+        return delegate.findPublishedSummaries(page, size);
+    }
+
+    @Override
+    public List<ArticleSummary> findPublishedSummariesAfter(LocalDateTime publishedAt, Long id, int size) {
+        return delegate.findPublishedSummariesAfter(publishedAt, id, size);
+    }
+
+    @Override
+    public List<ArticleSummary> findPublishedSummariesByIds(List<Long> ids) {
+        return delegate.findPublishedSummariesByIds(ids);
+    }
+
+    @Override
+    public List<ArticleSummary> findSummariesByAuthorId(UserId authorId, int page, int size) {
+        return delegate.findSummariesByAuthorId(authorId, page, size);
+    }
+
+    @Override
+    public Long countPublished() {
+        return delegate.countPublished();
+    }
+
+    @Override
+    public Long countByAuthorId(UserId authorId) {
+        return delegate.countByAuthorId(authorId);
+    }
+
+    @Override
+    public List<Article> findByCategoryId(Long categoryId, int page, int size) {
+        return delegate.findByCategoryId(categoryId, page, size);
+    }
+
+    @Override
+    public void deleteById(ArticleId articleId) {
+        delegate.deleteById(articleId);
+        invalidate(articleId);
+        TransactionCallbacks.afterCommit(() -> slugIndex.evictById(articleId.getValue()));
+    }
+
+    /**
+     * 把浏览增量同步到缓存中的聚合（增量移出计数缓冲时调用，落库失败时以负数撤回），避免展示值回退
+     */
+    public void applyViewDelta(Long articleId, long delta) {
+        cache.asMap().computeIfPresent(articleId, (id, article) -> {
+            article.setViews(article.getViews() + (int) delta);
+            return article;
+        });
+    }
+
+    /**
+     * 缓存统计：命中、未命中、淘汰次数及当前容量
+     */
+    public Map<String, Long> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Long> result = new LinkedHashMap<>();
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("evictionWeight", stats.evictionWeight());
+        result.put("estimatedSize", cache.estimatedSize());
+        return result;
+    }
+
+    /**
+     * 定时输出缓存统计
+     */
+    @Scheduled(fixedDelayString = "${echologue.article.cache.stats-interval:300000}",
+            initialDelayString = "${echologue.article.cache.stats-interval:300000}")
+    public void logStats() {
+        log.info("文章缓存统计：{}", stats());
+    }
+
+    private void invalidate(ArticleId articleId) {
+        Long id = articleId.getValue();
+        cache.invalidate(id);
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(id));
+    }
+
+    private static int weigh(Long id, Article article) {
+        int weight = BASE_WEIGHT;
+        if (article.getContent() != null) {
+            weight += article.getContent().length() * 2;
+        }
+        if (article.getSummary() != null) {
+            weight += article.getSummary().length() * 2;
+        }
+        return weight;
+    }
+
+    private static Article copy(Article article) {
+        return article.toBuilder()
+                .tagIds(article.getTagIds() == null ? null : new ArrayList<>(article.getTagIds()))
+                .persistedTagIds(article.getPersistedTagIds() == null
+                        ? null : new ArrayList<>(article.getPersistedTagIds()))
+                .dirtyFields(EnumSet.noneOf(ArticleField.class))
+                .build();
+    }
+}
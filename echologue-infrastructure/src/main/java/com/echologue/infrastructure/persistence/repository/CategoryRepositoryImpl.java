@@ -1,28 +1,54 @@
 package com.echologue.infrastructure.persistence.repository;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
 import com.echologue.domain.category.model.Category;
 import com.echologue.domain.category.repository.ICategoryRepository;
+import com.echologue.infrastructure.persistence.catalog.Catalog;
+import com.echologue.infrastructure.persistence.mapper.ArticleMapper;
 import com.echologue.infrastructure.persistence.mapper.CategoryMapper;
+import com.echologue.infrastructure.persistence.po.ArticlePO;
 import com.echologue.infrastructure.persistence.po.CategoryPO;
-import lombok.RequiredArgsConstructor;
+import com.echologue.infrastructure.support.TransactionCallbacks;
+import com.echologue.types.enums.ArticleStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * 分类仓储实现
+ * <p>
+ * 读操作由内存目录快照提供，不访问数据库；写操作在事务提交后替换快照。
+ * 文章数（联想排序的权重）在加载快照时按已发布文章统计，随快照定时刷新。
  *
  * @author Echologue
  */
 @Repository
-@RequiredArgsConstructor
 public class CategoryRepositoryImpl implements ICategoryRepository {
     
     private final CategoryMapper categoryMapper;
     
+    private final ArticleMapper articleMapper;
+    
+    private final Catalog<Category> catalog;
+    
+    public CategoryRepositoryImpl(CategoryMapper categoryMapper, ArticleMapper articleMapper) {
+        this.categoryMapper = categoryMapper;
+        this.articleMapper = articleMapper;
+        this.catalog = new Catalog<>("分类", this::loadAll, Category::getId, Category::getSlug,
+                Category::getName, CategoryRepositoryImpl::articleCountOf,
+                Comparator.comparing(Category::getSort, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Category::getId),
+                category -> category.toBuilder().build());
+    }
+    
     @Override
     public Category save(Category category) {
         CategoryPO po = convertToPO(category);
@@ -33,27 +59,43 @@ public class CategoryRepositoryImpl implements ICategoryRepository {
             categoryMapper.updateById(po);
         }
         
-        return convertToDomain(po);
+        Category saved = convertToDomain(po);
+        TransactionCallbacks.afterCommit(() -> catalog.put(saved));
+        return saved;
     }
     
     @Override
     public Optional<Category> findById(Long id) {
-        CategoryPO po = categoryMapper.selectById(id);
-        return Optional.ofNullable(po).map(this::convertToDomain);
+        return Optional.ofNullable(catalog.getById(id));
+    }
+    
+    @Override
+    public Optional<Category> findBySlug(String slug) {
+        return Optional.ofNullable(catalog.getBySlug(slug));
+    }
+    
+    @Override
+    public List<Category> suggestByName(String prefix, int limit) {
+        return catalog.suggest(prefix, limit);
     }
     
     @Override
     public List<Category> findAll() {
-        LambdaQueryWrapper<CategoryPO> wrapper = new LambdaQueryWrapper<>();
-        wrapper.orderByAsc(CategoryPO::getSort);
-        return categoryMapper.selectList(wrapper).stream()
-                .map(this::convertToDomain)
-                .collect(Collectors.toList());
+        return catalog.list();
+    }
+    
+    @Override
+    public List<Category> findByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return catalog.getByIds(ids);
     }
     
     @Override
     public void deleteById(Long id) {
         categoryMapper.deleteById(id);
+        TransactionCallbacks.afterCommit(() -> catalog.remove(id));
     }
     
     @Override
@@ -63,6 +105,41 @@ public class CategoryRepositoryImpl implements ICategoryRepository {
         return categoryMapper.selectCount(wrapper) > 0;
     }
     
+    /**
+     * 定时从数据库重新加载快照（多实例部署时同步其他实例的写入）
+     */
+    @Scheduled(fixedDelayString = "${echologue.catalog.refresh-interval:300000}",
+            initialDelayString = "${echologue.catalog.refresh-interval:300000}")
+    public void refreshCatalog() {
+        catalog.reload();
+    }
+    
+    private static int articleCountOf(Category category) {
+        return category.getArticleCount() == null ? 0 : category.getArticleCount();
+    }
+    
+    /**
+     * 加载全部分类，文章数按已发布文章统计（article_count 列不维护）
+     */
+    private List<Category> loadAll() {
+        QueryWrapper<ArticlePO> wrapper = new QueryWrapper<>();
+        wrapper.select("category_id", "COUNT(*) AS total")
+                .eq("status", ArticleStatus.PUBLISHED.getCode())
+                .isNotNull("category_id")
+                .groupBy("category_id");
+        Map<Long, Integer> articleCounts = new HashMap<>();
+        for (Map<String, Object> row : articleMapper.selectMaps(wrapper)) {
+            articleCounts.put(((Number) row.get("category_id")).longValue(), ((Number) row.get("total")).intValue());
+        }
+        return categoryMapper.selectList(null).stream()
+                .map(po -> {
+                    Category category = convertToDomain(po);
+                    category.setArticleCount(articleCounts.getOrDefault(po.getId(), 0));
+                    return category;
+                })
+                .collect(Collectors.toList());
+    }
+    
     private Category convertToDomain(CategoryPO po) {
         return Category.builder()
                 .id(po.getId())
@@ -3,26 +3,48 @@ package com.echologue.infrastructure.persistence.repository;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.echologue.domain.category.model.Tag;
 import com.echologue.domain.category.repository.ITagRepository;
+import com.echologue.infrastructure.persistence.catalog.Catalog;
+import com.echologue.infrastructure.persistence.mapper.ArticleTagMapper;
 import com.echologue.infrastructure.persistence.mapper.TagMapper;
 import com.echologue.infrastructure.persistence.po.TagPO;
-import lombok.RequiredArgsConstructor;
+import com.echologue.infrastructure.support.TransactionCallbacks;
+import com.echologue.types.enums.ArticleStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * 标签仓储实现
+ * <p>
+ * 读操作由内存目录快照提供，不访问数据库；写操作在事务提交后替换快照。
+ * 文章数（联想排序的权重）在加载快照时按已发布文章的标签关联统计，随快照定时刷新。
  *
  * @author Echologue
  */
 @Repository
-@RequiredArgsConstructor
 public class TagRepositoryImpl implements ITagRepository {
     
     private final TagMapper tagMapper;
     
+    private final ArticleTagMapper articleTagMapper;
+    
+    private final Catalog<Tag> catalog;
+    
+    public TagRepositoryImpl(TagMapper tagMapper, ArticleTagMapper articleTagMapper) {
+        this.tagMapper = tagMapper;
+        this.articleTagMapper = articleTagMapper;
+        this.catalog = new Catalog<>("标签", this::loadAll, Tag::getId, Tag::getSlug,
+                Tag::getName, TagRepositoryImpl::articleCountOf,
+                Comparator.comparing(Tag::getId), tag -> tag.toBuilder().build());
+    }
+    
     @Override
     public Tag save(Tag tag) {
         TagPO po = convertToPO(tag);
@@ -33,32 +55,43 @@ public class TagRepositoryImpl implements ITagRepository {
             tagMapper.updateById(po);
         }
         
-        return convertToDomain(po);
+        Tag saved = convertToDomain(po);
+        TransactionCallbacks.afterCommit(() -> catalog.put(saved));
+        return saved;
     }
     
     @Override
     public Optional<Tag> findById(Long id) {
-        TagPO po = tagMapper.selectById(id);
-        return Optional.ofNullable(po).map(this::convertToDomain);
+        return Optional.ofNullable(catalog.getById(id));
+    }
+    
+    @Override
+    public Optional<Tag> findBySlug(String slug) {
+        return Optional.ofNullable(catalog.getBySlug(slug));
+    }
+    
+    @Override
+    public List<Tag> suggestByName(String prefix, int limit) {
+        return catalog.suggest(prefix, limit);
     }
     
     @Override
     public List<Tag> findAll() {
-        return tagMapper.selectList(null).stream()
-                .map(this::convertToDomain)
-                .collect(Collectors.toList());
+        return catalog.list();
     }
     
     @Override
     public List<Tag> findByIds(List<Long> ids) {
-        return tagMapper.selectBatchIds(ids).stream()
-                .map(this::convertToDomain)
-                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return catalog.getByIds(ids);
     }
     
     @Override
     public void deleteById(Long id) {
         tagMapper.deleteById(id);
+        TransactionCallbacks.afterCommit(() -> catalog.remove(id));
     }
     
     @Override
@@ -68,6 +101,36 @@ public class TagRepositoryImpl implements ITagRepository {
         return tagMapper.selectCount(wrapper) > 0;
     }
     
+    /**
+     * 定时从数据库重新加载快照（多实例部署时同步其他实例的写入）
+     */
+    @Scheduled(fixedDelayString = "${echologue.catalog.refresh-interval:300000}",
+            initialDelayString = "${echologue.catalog.refresh-interval:300000}")
+    public void refreshCatalog() {
+        catalog.reload();
+    }
+    
+    private static int articleCountOf(Tag tag) {
+        return tag.getArticleCount() == null ? 0 : tag.getArticleCount();
+    }
+    
+    /**
+     * 加载全部标签，文章数取自标签关联（article_count 列不维护）
+     */
+    private List<Tag> loadAll() {
+        Map<Long, Integer> articleCounts = new HashMap<>();
+        for (Map<String, Object> row : articleTagMapper.countByTag(ArticleStatus.PUBLISHED.getCode())) {
+            articleCounts.put(((Number) row.get("tag_id")).longValue(), ((Number) row.get("total")).intValue());
+        }
+        return tagMapper.selectList(null).stream()
+                .map(po -> {
+                    Tag tag = convertToDomain(po);
+                    tag.setArticleCount(articleCounts.getOrDefault(po.getId(), 0));
+                    return tag;
+                })
+                .collect(Collectors.toList());
+    }
+    
     private Tag convertToDomain(TagPO po) {
         return Tag.builder()
                 .id(po.getId())
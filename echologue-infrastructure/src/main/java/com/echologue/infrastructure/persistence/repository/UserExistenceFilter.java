@@ -0,0 +1,143 @@
+package com.echologue.infrastructure.persistence.repository;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.echologue.infrastructure.persistence.mapper.UserMapper;
+import com.echologue.infrastructure.persistence.po.UserPO;
+import com.echologue.infrastructure.support.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 用户名、邮箱存在性过滤器（布隆过滤器）
+ * <p>
+ * 启动时从用户表加载，保存用户时立即加入（事务回滚只会多出误判，不会漏判），提交后再加入一次，
+ * 保证与并发重建交错时不会丢失。
+ * 过滤器判定不存在时可直接认定可用，无需查库；判定可能存在时仍以数据库为准。
+ * 定时按当前用户数重建，扩容并纳入其他实例新增的用户。
+ * <p>
+ * 用户表使用大小写不敏感的排序规则，元素统一转为小写后加入和查询。
+ *
+ * @author Echologue
+ */
+@Slf4j
+@Component
+public class UserExistenceFilter {
+
+    private final UserMapper userMapper;
+
+    private final long minCapacity;
+
+    private final double falsePositiveRate;
+
+    private volatile Filters filters;
+
+    /**
+     * 正在重建的过滤器，重建期间的写入同时落到新旧两份
+     */
+    private volatile Filters building;
+
+    public UserExistenceFilter(UserMapper userMapper,
+                               @Value("${echologue.user.existence-filter.min-capacity:100000}") long minCapacity,
+                               @Value("${echologue.user.existence-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userMapper = userMapper;
+        this.minCapacity = minCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 启动时加载
+     */
+    @PostConstruct
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * 定时重建
+     */
+    @Scheduled(fixedDelayString = "${echologue.user.existence-filter.rebuild-interval:3600000}",
+            initialDelayString = "${echologue.user.existence-filter.rebuild-interval:3600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("用户存在性过滤器重建失败，继续使用旧过滤器", e);
+        }
+    }
+
+    /**
+     * 按当前用户数（预留一倍余量）重新构建
+     */
+    public synchronized void rebuild() {
+        long count = userMapper.selectCount(null);
+        long capacity = Math.max(minCapacity, count * 2L);
+        Filters rebuilt = new Filters(new BloomFilter(capacity, falsePositiveRate),
+                new BloomFilter(capacity, falsePositiveRate));
+
+        // 先公开新过滤器再查询：查询看不到的提交必然发生在此之后，其提交后写入会落到新过滤器
+        this.building = rebuilt;
+        List<UserPO> users;
+        try {
+            LambdaQueryWrapper<UserPO> wrapper = new LambdaQueryWrapper<>();
+            wrapper.select(UserPO::getUsername, UserPO::getEmail);
+            users = userMapper.selectList(wrapper);
+            for (UserPO user : users) {
+                rebuilt.put(normalize(user.getUsername()), normalize(user.getEmail()));
+            }
+            this.filters = rebuilt;
+        } finally {
+            this.building = null;
+        }
+        log.info("用户存在性过滤器构建完成，用户数：{}，容量：{}，占用：{}字节",
+                users.size(), capacity, rebuilt.usernames.sizeInBytes() + rebuilt.emails.sizeInBytes());
+    }
+
+    /**
+     * 记录用户名和邮箱
+     * <p>
+     * 先读 building 再读 filters：读到 building 为空时，之后才开始的重建查询必然能看到已提交的用户；
+     * 读到非空时新旧两份都写入。反过来读会在重建替换过滤器的间隙只写入被丢弃的旧过滤器。
+     */
+    public void put(String username, String email) {
+        String normalizedUsername = normalize(username);
+        String normalizedEmail = normalize(email);
+        Filters pending = building;
+        Filters current = filters;
+        current.put(normalizedUsername, normalizedEmail);
+        if (pending != null && pending != current) {
+            pending.put(normalizedUsername, normalizedEmail);
+        }
+    }
+
+    /**
+     * 用户名是否可能已存在
+     */
+    public boolean mightContainUsername(String username) {
+        return filters.usernames.mightContain(normalize(username));
+    }
+
+    /**
+     * 邮箱是否可能已存在
+     */
+    public boolean mightContainEmail(String email) {
+        return filters.emails.mightContain(normalize(email));
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+
+        private void put(String username, String email) {
+            usernames.put(username);
+            emails.put(email);
+        }
+    }
+}
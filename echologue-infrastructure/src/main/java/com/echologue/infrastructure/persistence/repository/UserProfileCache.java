@@ -0,0 +1,85 @@
+package com.echologue.infrastructure.persistence.repository;
+
+import com.echologue.domain.user.model.UserProfile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 用户资料本地缓存
+ * <p>
+ * 缓存不含密码的 {@link UserProfile}（不可变，直接返回），按条数淘汰并设置过期时间。
+ * 批量读取时只为未命中的ID发起一次查询，不存在的用户不缓存。由 {@link UserRepositoryImpl#save} 失效。
+ *
+ * @author Echologue
+ */
+@Slf4j
+@Component
+public class UserProfileCache {
+
+    private final Cache<Long, UserProfile> cache;
+
+    public UserProfileCache(@Value("${echologue.user.profile-cache.max-size:10000}") long maxSize,
+                            @Value("${echologue.user.profile-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 读取单个用户资料，未命中时加载（并发未命中只加载一次），不存在时返回null
+     */
+    public UserProfile get(Long userId, Function<Long, UserProfile> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * 批量读取，未命中的ID一次加载，结果中不包含不存在的用户
+     */
+    public Map<Long, UserProfile> getAll(Collection<Long> userIds,
+                                         Function<Set<? extends Long>, Map<Long, UserProfile>> loader) {
+        return cache.getAll(userIds, loader);
+    }
+
+    /**
+     * 失效
+     */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * 缓存统计：命中、未命中、淘汰次数及当前条数
+     */
+    public Map<String, Long> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Long> result = new LinkedHashMap<>();
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("estimatedSize", cache.estimatedSize());
+        return result;
+    }
+
+    /**
+     * 定时输出缓存统计
+     */
+    @Scheduled(fixedDelayString = "${echologue.user.profile-cache.stats-interval:300000}",
+            initialDelayString = "${echologue.user.profile-cache.stats-interval:300000}")
+    public void logStats() {
+        log.info("用户资料缓存统计：{}", stats());
+    }
+}
@@ -5,14 +5,23 @@ import com.echologue.domain.user.model.*;
 import com.echologue.domain.user.repository.IUserRepository;
 import com.echologue.infrastructure.persistence.mapper.UserMapper;
 import com.echologue.infrastructure.persistence.po.UserPO;
+import com.echologue.infrastructure.support.TransactionCallbacks;
 import com.echologue.types.enums.UserStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * 用户仓储实现
+ * <p>
+ * 用户名、邮箱存在性查询先经布隆过滤器，判定不存在时不查库；用户资料查询经本地缓存，保存时失效。
  *
  * @author Echologue
  */
@@ -21,10 +30,16 @@ import java.util.Optional;
 public class UserRepositoryImpl implements IUserRepository {
     
     private final UserMapper userMapper;
+    private final UserExistenceFilter existenceFilter;
+    private final UserProfileCache profileCache;
     
     @Override
     public User save(User user) {
         UserPO po = convertToPO(user);
+        String username = po.getUsername();
+        String email = po.getEmail();
+        existenceFilter.put(username, email);
+        TransactionCallbacks.afterCommit(() -> existenceFilter.put(username, email));
         
         if (po.getId() == null) {
             // 新增
@@ -32,6 +47,10 @@ public class UserRepositoryImpl implements IUserRepository {
         } else {
             // 更新
             userMapper.updateById(po);
+            // 提交前后各失效一次，避免并发读把旧资料写回缓存
+            Long userId = po.getId();
+            profileCache.invalidate(userId);
+            TransactionCallbacks.afterCommit(() -> profileCache.invalidate(userId));
         }
         
         return convertToDomain(po);
@@ -43,6 +62,29 @@ public class UserRepositoryImpl implements IUserRepository {
         return Optional.ofNullable(po).map(this::convertToDomain);
     }
     
+    @Override
+    public Optional<UserProfile> findProfileById(UserId userId) {
+        return Optional.ofNullable(profileCache.get(userId.getValue(), id -> {
+            UserPO po = userMapper.selectOne(profileQuery().eq(UserPO::getId, id));
+            return po == null ? null : convertToProfile(po);
+        }));
+    }
+    
+    @Override
+    public List<UserProfile> findProfilesByIds(Collection<UserId> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> ids = userIds.stream().map(UserId::getValue).distinct().collect(Collectors.toList());
+        Map<Long, UserProfile> profiles = profileCache.getAll(ids, missing ->
+                userMapper.selectList(profileQuery().in(UserPO::getId, missing)).stream()
+                        .collect(Collectors.toMap(UserPO::getId, this::convertToProfile)));
+        return ids.stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
     @Override
     public Optional<User> findByEmail(Email email) {
         LambdaQueryWrapper<UserPO> wrapper = new LambdaQueryWrapper<>();
@@ -61,6 +103,9 @@ public class UserRepositoryImpl implements IUserRepository {
     
     @Override
     public boolean existsByEmail(Email email) {
+        if (!existenceFilter.mightContainEmail(email.getValue())) {
+            return false;
+        }
         LambdaQueryWrapper<UserPO> wrapper = new LambdaQueryWrapper<>();
         wrapper.eq(UserPO::getEmail, email.getValue());
         return userMapper.selectCount(wrapper) > 0;
@@ -68,11 +113,39 @@ public class UserRepositoryImpl implements IUserRepository {
     
     @Override
     public boolean existsByUsername(Username username) {
+        if (!existenceFilter.mightContainUsername(username.getValue())) {
+            return false;
+        }
         LambdaQueryWrapper<UserPO> wrapper = new LambdaQueryWrapper<>();
         wrapper.eq(UserPO::getUsername, username.getValue());
         return userMapper.selectCount(wrapper) > 0;
     }
     
+    /**
+     * 用户资料查询（不查询密码列）
+     */
+    private LambdaQueryWrapper<UserPO> profileQuery() {
+        LambdaQueryWrapper<UserPO> wrapper = new LambdaQueryWrapper<>();
+        wrapper.select(UserPO::getId, UserPO::getUsername, UserPO::getEmail, UserPO::getAvatar,
+                UserPO::getBio, UserPO::getStatus, UserPO::getCreatedAt);
+        return wrapper;
+    }
+    
+    /**
+     * PO转用户资料
+     */
+    private UserProfile convertToProfile(UserPO po) {
+        return UserProfile.builder()
+                .id(po.getId())
+                .username(po.getUsername())
+                .email(po.getEmail())
+                .avatar(po.getAvatar())
+                .bio(po.getBio())
+                .status(po.getStatus())
+                .createdAt(po.getCreatedAt())
+                .build();
+    }
+    
     /**
      * PO转Domain
      */
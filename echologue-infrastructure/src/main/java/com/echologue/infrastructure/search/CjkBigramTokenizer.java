@@ -0,0 +1,100 @@
+package com.echologue.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 中日韩二元分词器
+ * <p>
+ * 连续的中日韩字符按相邻两字切分（"全文检索" -> "全文"、"文检"、"检索"），单独出现的一个字保留为单字；
+ * 其他语言的连续字母数字作为一个词并转为小写；标点、空白和Markdown符号作为分隔符。
+ * 索引和查询使用同一套规则，不依赖词典。
+ *
+ * @author Echologue
+ */
+public final class CjkBigramTokenizer {
+
+    /**
+     * 单个词的最大长度，超出部分截断（避免长串base64等内容膨胀索引）
+     */
+    private static final int MAX_WORD_LENGTH = 64;
+
+    private CjkBigramTokenizer() {
+    }
+
+    /**
+     * 分词，返回的词项可能重复
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = text.codePointAt(i);
+            if (isCjk(codePoint)) {
+                i = readCjkRun(text, i, tokens);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                i = readWord(text, i, tokens);
+            } else {
+                i += Character.charCount(codePoint);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 读取连续的中日韩字符并输出二元词项，返回下一个位置
+     */
+    private static int readCjkRun(String text, int start, List<String> tokens) {
+        int i = start;
+        int previousStart = -1;
+        int count = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            if (!isCjk(codePoint)) {
+                break;
+            }
+            int next = i + Character.charCount(codePoint);
+            if (previousStart >= 0) {
+                tokens.add(text.substring(previousStart, next));
+            }
+            previousStart = i;
+            count++;
+            i = next;
+        }
+        if (count == 1) {
+            tokens.add(text.substring(start, i));
+        }
+        return i;
+    }
+
+    /**
+     * 读取连续的非中日韩字母数字作为一个小写词项，返回下一个位置
+     */
+    private static int readWord(String text, int start, List<String> tokens) {
+        int i = start;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            if (isCjk(codePoint) || !Character.isLetterOrDigit(codePoint)) {
+                break;
+            }
+            i += Character.charCount(codePoint);
+        }
+        String word = text.substring(start, Math.min(i, start + MAX_WORD_LENGTH));
+        tokens.add(word.toLowerCase(Locale.ROOT));
+        return i;
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
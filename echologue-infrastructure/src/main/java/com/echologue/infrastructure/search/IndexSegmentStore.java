@@ -0,0 +1,206 @@
+package com.echologue.infrastructure.search;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 索引段文件存储
+ * <p>
+ * 索引以顺序编号的段文件保存在本地目录：基础段包含合并时的全部文档，增量段包含之后的新增、更新和删除记录。
+ * 加载时从最近的基础段开始按顺序回放；段文件先写临时文件再原子重命名，不会读到写了一半的段。
+ * 回放的记录是幂等的（整篇替换或删除），同一记录重复出现不影响结果。
+ *
+ * @author Echologue
+ */
+@Slf4j
+public class IndexSegmentStore {
+
+    private static final int MAGIC = 0x45534731;
+
+    private static final byte DELTA = 0;
+
+    private static final byte BASE = 1;
+
+    private static final String PREFIX = "segment-";
+
+    private static final String SUFFIX = ".seg";
+
+    private final Path directory;
+
+    private long nextSequence = 1;
+
+    /**
+     * 最近的基础段之后的增量段数
+     */
+    private int deltaCount;
+
+    public IndexSegmentStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 读取最近的基础段及其后的增量段，按写入顺序返回全部记录，并清理更早的段文件
+     */
+    public synchronized List<IndexedDocument> load() throws IOException {
+        Files.createDirectories(directory);
+        TreeMap<Long, Path> segments = listSegments();
+        if (!segments.isEmpty()) {
+            nextSequence = segments.lastKey() + 1;
+        }
+
+        // 从后往前找最近的基础段
+        Long baseSequence = null;
+        for (Long sequence : segments.descendingKeySet()) {
+            if (readKind(segments.get(sequence)) == BASE) {
+                baseSequence = sequence;
+                break;
+            }
+        }
+
+        List<IndexedDocument> records = new ArrayList<>();
+        deltaCount = 0;
+        for (var entry : segments.entrySet()) {
+            if (baseSequence != null && entry.getKey() < baseSequence) {
+                Files.deleteIfExists(entry.getValue());
+                continue;
+            }
+            records.addAll(read(entry.getValue()));
+            if (!entry.getKey().equals(baseSequence)) {
+                deltaCount++;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 追加一个增量段
+     */
+    public synchronized void appendDelta(List<IndexedDocument> records) throws IOException {
+        write(nextSequence++, DELTA, records);
+        deltaCount++;
+    }
+
+    /**
+     * 写入基础段并删除之前的全部段文件
+     */
+    public synchronized void writeBase(List<IndexedDocument> documents) throws IOException {
+        long sequence = nextSequence++;
+        write(sequence, BASE, documents);
+        for (var entry : listSegments().headMap(sequence).entrySet()) {
+            Files.deleteIfExists(entry.getValue());
+        }
+        deltaCount = 0;
+    }
+
+    public synchronized int deltaCount() {
+        return deltaCount;
+    }
+
+    private void write(long sequence, byte kind, List<IndexedDocument> records) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(String.format("%s%019d%s", PREFIX, sequence, SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp))))) {
+            out.writeInt(MAGIC);
+            out.writeByte(kind);
+            out.writeInt(records.size());
+            for (IndexedDocument record : records) {
+                out.writeLong(record.getId());
+                out.writeBoolean(record.isDeleted());
+                if (record.isDeleted()) {
+                    continue;
+                }
+                out.writeInt(record.getVersion());
+                out.writeInt(record.getLength());
+                String[] terms = record.getTerms();
+                int[] frequencies = record.getFrequencies();
+                out.writeInt(terms.length);
+                for (int i = 0; i < terms.length; i++) {
+                    out.writeUTF(terms[i]);
+                    out.writeInt(frequencies[i]);
+                }
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private List<IndexedDocument> read(Path path) throws IOException {
+        try (DataInputStream in = open(path)) {
+            in.readByte();
+            int count = in.readInt();
+            List<IndexedDocument> records = new ArrayList<>(count);
+            for (int n = 0; n < count; n++) {
+                long id = in.readLong();
+                if (in.readBoolean()) {
+                    records.add(IndexedDocument.tombstone(id));
+                    continue;
+                }
+                int version = in.readInt();
+                int length = in.readInt();
+                int termCount = in.readInt();
+                String[] terms = new String[termCount];
+                int[] frequencies = new int[termCount];
+                for (int i = 0; i < termCount; i++) {
+                    terms[i] = in.readUTF();
+                    frequencies[i] = in.readInt();
+                }
+                records.add(new IndexedDocument(id, version, length, terms, frequencies));
+            }
+            return records;
+        }
+    }
+
+    private byte readKind(Path path) throws IOException {
+        try (DataInputStream in = open(path)) {
+            return in.readByte();
+        }
+    }
+
+    /**
+     * 打开段文件并校验文件头
+     */
+    private DataInputStream open(Path path) throws IOException {
+        InputStream raw = Files.newInputStream(path);
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(raw)));
+            if (in.readInt() != MAGIC) {
+                throw new IOException("无效的索引段文件：" + path);
+            }
+            return in;
+        } catch (IOException e) {
+            raw.close();
+            throw e;
+        }
+    }
+
+    private TreeMap<Long, Path> listSegments() throws IOException {
+        TreeMap<Long, Path> segments = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                try {
+                    segments.put(Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length())), path);
+                } catch (NumberFormatException e) {
+                    log.warn("忽略无法识别的索引段文件：{}", path);
+                }
+            }
+        }
+        return segments;
+    }
+}
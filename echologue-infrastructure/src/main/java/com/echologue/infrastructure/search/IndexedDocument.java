@@ -0,0 +1,49 @@
+package com.echologue.infrastructure.search;
+
+import lombok.Getter;
+
+/**
+ * 索引中的一篇文档：词项及其加权词频
+ * <p>
+ * 同时作为段文件中的一条记录，terms为null表示删除标记。
+ *
+ * @author Echologue
+ */
+@Getter
+public final class IndexedDocument {
+
+    private final long id;
+
+    /**
+     * 收录时的文章版本号，用于与数据库对账
+     */
+    private final int version;
+
+    /**
+     * 加权文档长度（各字段词项数乘以字段权重之和）
+     */
+    private final int length;
+
+    private final String[] terms;
+
+    private final int[] frequencies;
+
+    public IndexedDocument(long id, int version, int length, String[] terms, int[] frequencies) {
+        this.id = id;
+        this.version = version;
+        this.length = length;
+        this.terms = terms;
+        this.frequencies = frequencies;
+    }
+
+    /**
+     * 删除标记
+     */
+    public static IndexedDocument tombstone(long id) {
+        return new IndexedDocument(id, -1, 0, null, null);
+    }
+
+    public boolean isDeleted() {
+        return terms == null;
+    }
+}
@@ -0,0 +1,212 @@
+package com.echologue.infrastructure.search;
+
+import com.echologue.domain.article.model.ArticleSearchResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 内存倒排索引（BM25排序）
+ * <p>
+ * 词项 -> (文档ID -> 加权词频)。写操作按文档整体替换，读写通过读写锁隔离，检索之间互不阻塞。
+ *
+ * @author Echologue
+ */
+public class InvertedIndex {
+
+    /**
+     * BM25词频饱和参数
+     */
+    private static final double K1 = 1.2;
+
+    /**
+     * BM25文档长度归一化参数
+     */
+    private static final double B = 0.75;
+
+    /**
+     * 同分时ID大的（较新的）文章排在前面
+     */
+    private static final Comparator<Map.Entry<Long, Double>> BY_SCORE = Map.Entry.<Long, Double>comparingByValue()
+            .thenComparing(Map.Entry.comparingByKey());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+
+    private long totalLength;
+
+    /**
+     * 新增、替换或删除一篇文档
+     */
+    public void apply(IndexedDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.getId());
+            if (!document.isDeleted()) {
+                addInternal(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 批量应用（加载段文件时使用）
+     */
+    public void applyAll(Collection<IndexedDocument> batch) {
+        lock.writeLock().lock();
+        try {
+            for (IndexedDocument document : batch) {
+                removeInternal(document.getId());
+                if (!document.isDeleted()) {
+                    addInternal(document);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 检索：任一词项命中即参与排序，按BM25得分降序分页
+     */
+    public ArticleSearchResult search(List<String> queryTerms, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty() || queryTerms.isEmpty()) {
+                return new ArticleSearchResult(new ArrayList<>(), 0);
+            }
+
+            double averageLength = (double) totalLength / documents.size();
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : new LinkedHashSet<>(queryTerms)) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documents.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int tf = entry.getValue();
+                    int length = documents.get(entry.getKey()).getLength();
+                    double norm = K1 * (1 - B + B * length / averageLength);
+                    scores.merge(entry.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+
+            return new ArticleSearchResult(topK(scores, offset, limit), scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 文档收录时的版本号，未收录返回null
+     */
+    public Integer version(long id) {
+        lock.readLock().lock();
+        try {
+            IndexedDocument document = documents.get(id);
+            return document == null ? null : document.getVersion();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 文档ID -> 收录时的版本号
+     */
+    public Map<Long, Integer> versions() {
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> versions = new HashMap<>(documents.size() * 2);
+            documents.forEach((id, document) -> versions.put(id, document.getVersion()));
+            return versions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 全部文档（合并段文件时使用）
+     */
+    public List<IndexedDocument> documents() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(documents.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(IndexedDocument document) {
+        String[] terms = document.getTerms();
+        int[] frequencies = document.getFrequencies();
+        for (int i = 0; i < terms.length; i++) {
+            postings.computeIfAbsent(terms[i], t -> new HashMap<>()).put(document.getId(), frequencies[i]);
+        }
+        documents.put(document.getId(), document);
+        totalLength += document.getLength();
+    }
+
+    private void removeInternal(long id) {
+        IndexedDocument existing = documents.remove(id);
+        if (existing == null) {
+            return;
+        }
+        for (String term : existing.getTerms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= existing.getLength();
+    }
+
+    /**
+     * 用大小为 offset + limit 的小顶堆取前K名，再截取当前页
+     */
+    private static List<Long> topK(Map<Long, Double> scores, int offset, int limit) {
+        int k = offset + limit;
+        if (k <= 0 || offset >= scores.size()) {
+            return new ArrayList<>();
+        }
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Math.min(k, scores.size()), BY_SCORE);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (heap.size() < k) {
+                heap.offer(entry);
+            } else if (BY_SCORE.compare(entry, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(entry);
+            }
+        }
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(heap);
+        ranked.sort(BY_SCORE.reversed());
+        List<Long> ids = new ArrayList<>(limit);
+        for (int i = offset; i < ranked.size(); i++) {
+            ids.add(ranked.get(i).getKey());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,167 @@
+package com.echologue.infrastructure.security;
+
+import com.echologue.domain.user.model.Password;
+import com.echologue.domain.user.service.IPasswordHasher;
+import com.echologue.types.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt密码哈希实现
+ * <p>
+ * 加密和校验在固定大小的专用线程池中执行，排队数有上限，队列满时立即拒绝（错误码429），
+ * 登录高峰不会占满Tomcat线程和全部CPU。按成本因子分别统计耗时，便于评估调整成本因子的影响。
+ *
+ * @author Echologue
+ */
+@Slf4j
+@Component
+public class BCryptPasswordHasher implements IPasswordHasher {
+
+    private final int cost;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 各成本因子的耗时统计：成本因子 -> 统计
+     */
+    private final ConcurrentHashMap<Integer, Timing> timings = new ConcurrentHashMap<>();
+
+    private final LongAdder rejected = new LongAdder();
+
+    public BCryptPasswordHasher(@Value("${echologue.password.cost:10}") int cost,
+                                @Value("${echologue.password.pool-size:0}") int poolSize,
+                                @Value("${echologue.password.queue-capacity:64}") int queueCapacity) {
+        if (cost < 4 || cost > 31) {
+            throw new IllegalArgumentException("BCrypt成本因子应在4到31之间：" + cost);
+        }
+        this.cost = cost;
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("密码哈希线程池初始化，成本因子：{}，线程数：{}，队列容量：{}", cost, threads, queueCapacity);
+    }
+
+    @Override
+    public Password hash(String rawPassword) {
+        return execute(cost, () -> Password.create(rawPassword, cost));
+    }
+
+    @Override
+    public boolean matches(Password password, String rawPassword) {
+        if (rawPassword == null) {
+            return false;
+        }
+        return execute(password.cost(), () -> password.matches(rawPassword));
+    }
+
+    @Override
+    public boolean needsRehash(Password password) {
+        return password.cost() != cost;
+    }
+
+    /**
+     * 统计：线程池状态、拒绝次数及各成本因子的次数、平均/最大耗时（微秒）
+     */
+    public Map<String, Long> stats() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        result.put("activeCount", (long) executor.getActiveCount());
+        result.put("queueSize", (long) executor.getQueue().size());
+        result.put("rejectedCount", rejected.sum());
+        new TreeMap<>(timings).forEach((factor, timing) -> {
+            long count = timing.count.sum();
+            result.put("cost" + factor + ".count", count);
+            result.put("cost" + factor + ".avgMicros", count == 0 ? 0L : timing.totalNanos.sum() / count / 1000);
+            result.put("cost" + factor + ".maxMicros", timing.maxNanos.get() / 1000);
+        });
+        return result;
+    }
+
+    /**
+     * 定时输出统计
+     */
+    @Scheduled(fixedDelayString = "${echologue.password.stats-interval:300000}",
+            initialDelayString = "${echologue.password.stats-interval:300000}")
+    public void logStats() {
+        log.info("密码哈希统计：{}", stats());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(int factor, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    timings.computeIfAbsent(factor, k -> new Timing()).record(System.nanoTime() - start);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new BusinessException(429, "请求过于频繁，请稍后重试");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException("密码校验被中断");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException("密码处理失败", cause);
+        }
+    }
+
+    /**
+     * 单个成本因子的耗时累计
+     */
+    private static final class Timing {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.echologue.infrastructure.security;
+
+import cn.dev33.satoken.stp.StpInterface;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sa-Token角色与权限来源
+ * <p>
+ * 暂无角色表，管理员由配置的用户ID列表指定，其余用户没有角色和权限；未配置时没有管理员。
+ *
+ * @author Echologue
+ */
+@Component
+public class StpInterfaceImpl implements StpInterface {
+
+    private static final List<String> ADMIN_ROLES = List.of("admin");
+
+    private final Set<String> adminUserIds;
+
+    public StpInterfaceImpl(@Value("${echologue.admin.user-ids:}") List<Long> adminUserIds) {
+        this.adminUserIds = adminUserIds.stream().map(String::valueOf).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public List<String> getPermissionList(Object loginId, String loginType) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<String> getRoleList(Object loginId, String loginType) {
+        return adminUserIds.contains(String.valueOf(loginId)) ? ADMIN_ROLES : Collections.emptyList();
+    }
+}
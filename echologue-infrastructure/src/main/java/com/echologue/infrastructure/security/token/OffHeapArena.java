@@ -0,0 +1,129 @@
+package com.echologue.infrastructure.security.token;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * 堆外内存分配器
+ * <p>
+ * 按2的幂划分块大小（64B ~ 64KB），从固定大小的直接内存分片中顺序切分，释放的块按大小归还空闲链表复用。
+ * 超过最大块的值由调用方单独分配直接内存。地址编码为 (分片序号 << 32) | 分片内偏移。
+ * <p>
+ * 分配和释放加锁；读写按绝对位置访问分片，不修改缓冲区状态，调用方保证同一块不被并发写入和释放。
+ *
+ * @author Echologue
+ */
+final class OffHeapArena {
+
+    static final int MIN_SHIFT = 6;
+
+    static final int MAX_SHIFT = 16;
+
+    /**
+     * 单块最大字节数
+     */
+    static final int MAX_BLOCK_SIZE = 1 << MAX_SHIFT;
+
+    private final int chunkSize;
+
+    /**
+     * 分片数组，扩容时整体替换，读取无需加锁
+     */
+    private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+
+    @SuppressWarnings("unchecked")
+    private final ArrayDeque<Long>[] freeLists = new ArrayDeque[MAX_SHIFT - MIN_SHIFT + 1];
+
+    private int chunkOffset;
+
+    private long usedBytes;
+
+    OffHeapArena(int chunkSize) {
+        if (chunkSize < MAX_BLOCK_SIZE || Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException("分片大小必须是不小于" + MAX_BLOCK_SIZE + "的2的幂：" + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        for (int i = 0; i < freeLists.length; i++) {
+            freeLists[i] = new ArrayDeque<>();
+        }
+        this.chunkOffset = chunkSize;
+    }
+
+    /**
+     * 块大小序号
+     */
+    static int sizeClass(int length) {
+        int shift = Math.max(MIN_SHIFT, 32 - Integer.numberOfLeadingZeros(Math.max(1, length) - 1));
+        return shift - MIN_SHIFT;
+    }
+
+    /**
+     * 分配能容纳length字节的块，返回地址
+     */
+    synchronized long allocate(int length) {
+        if (length > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("超过最大块大小：" + length);
+        }
+        int sizeClass = sizeClass(length);
+        int blockSize = 1 << (sizeClass + MIN_SHIFT);
+        usedBytes += blockSize;
+
+        Long free = freeLists[sizeClass].pollFirst();
+        if (free != null) {
+            return free;
+        }
+        // 块大小整除分片大小，按块大小对齐后剩余空间必然够用
+        chunkOffset = (chunkOffset + blockSize - 1) & -blockSize;
+        if (chunkOffset + blockSize > chunkSize) {
+            ByteBuffer[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+            grown[chunks.length] = ByteBuffer.allocateDirect(chunkSize);
+            chunks = grown;
+            chunkOffset = 0;
+        }
+        long address = ((long) (chunks.length - 1) << 32) | chunkOffset;
+        chunkOffset += blockSize;
+        return address;
+    }
+
+    /**
+     * 释放块
+     */
+    synchronized void free(long address, int length) {
+        int sizeClass = sizeClass(length);
+        usedBytes -= 1 << (sizeClass + MIN_SHIFT);
+        freeLists[sizeClass].addFirst(address);
+    }
+
+    void write(long address, byte[] value) {
+        chunk(address).put(offset(address), value);
+    }
+
+    byte[] read(long address, int length) {
+        byte[] value = new byte[length];
+        chunk(address).get(offset(address), value);
+        return value;
+    }
+
+    /**
+     * 已分配块占用的字节数
+     */
+    synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * 已申请的直接内存字节数
+     */
+    synchronized long reservedBytes() {
+        return (long) chunks.length * chunkSize;
+    }
+
+    private ByteBuffer chunk(long address) {
+        return chunks[(int) (address >>> 32)];
+    }
+
+    private static int offset(long address) {
+        return (int) address;
+    }
+}
@@ -0,0 +1,445 @@
+package com.echologue.infrastructure.security.token;
+
+import cn.dev33.satoken.dao.SaTokenDao;
+import cn.dev33.satoken.util.SaFoxUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 堆外令牌存储（替换Sa-Token默认的堆内Map实现）
+ * <p>
+ * 值序列化后存放在直接内存中（见 {@link OffHeapArena}），堆上只保留key和定长的位置信息，
+ * 长期有效的会话不会在老年代堆积。过期由分层时间轮驱动清理，读取时另行校验到期时间。
+ * 定时及关闭时把未过期条目写入内存映射检查点文件，重启后恢复，用户无需重新登录。
+ * <p>
+ * 同一key的读写通过分段读写锁互斥，保证块在读取期间不会被释放复用。
+ * 通过 {@code echologue.token-store.type=memory} 可切回默认实现。
+ *
+ * @author Echologue
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "echologue.token-store", name = "type", havingValue = "off-heap", matchIfMissing = true)
+public class OffHeapSaTokenDao implements SaTokenDao {
+
+    private static final byte KIND_STRING = 1;
+
+    private static final byte KIND_OBJECT = 2;
+
+    /**
+     * 永不过期的到期时间标记
+     */
+    private static final long NEVER = -1L;
+
+    private static final int LOCK_STRIPES = 64;
+
+    private static final long TICK_MILLIS = 1000L;
+
+    private final ConcurrentHashMap<String, Slot> slots = new ConcurrentHashMap<>();
+
+    private final ReadWriteLock[] locks = new ReadWriteLock[LOCK_STRIPES];
+
+    private final OffHeapArena arena;
+
+    private final TimingWheel wheel = new TimingWheel(TICK_MILLIS, System.currentTimeMillis());
+
+    private final TokenStoreCheckpoint checkpoint;
+
+    /**
+     * 修改计数，检查点只在有变化时写入
+     */
+    private final AtomicLong modifications = new AtomicLong();
+
+    private long checkpointedModifications = -1;
+
+    public OffHeapSaTokenDao(@Value("${echologue.token-store.checkpoint-file:./data/token-store.bin}") String checkpointFile,
+                             @Value("${echologue.token-store.chunk-size:4194304}") int chunkSize) {
+        this.arena = new OffHeapArena(chunkSize);
+        this.checkpoint = new TokenStoreCheckpoint(Path.of(checkpointFile));
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * 从检查点恢复
+     */
+    @PostConstruct
+    public void restore() {
+        List<TokenStoreCheckpoint.Entry> entries;
+        try {
+            entries = checkpoint.read();
+        } catch (IOException e) {
+            log.warn("令牌检查点读取失败，以空存储启动", e);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int restored = 0;
+        for (TokenStoreCheckpoint.Entry entry : entries) {
+            if (entry.expireAt() == NEVER || entry.expireAt() > now) {
+                store(entry.key(), entry.kind(), entry.value(), entry.expireAt());
+                restored++;
+            }
+        }
+        checkpointedModifications = modifications.get();
+        log.info("令牌存储从检查点恢复，条目数：{}，已过期丢弃：{}", restored, entries.size() - restored);
+    }
+
+    @Override
+    public String get(String key) {
+        Object value = read(key);
+        return value instanceof String string ? string : null;
+    }
+
+    @Override
+    public void set(String key, String value, long timeout) {
+        write(key, KIND_STRING, value.getBytes(StandardCharsets.UTF_8), timeout);
+    }
+
+    @Override
+    public void update(String key, String value) {
+        replace(key, KIND_STRING, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void delete(String key) {
+        remove(key);
+    }
+
+    @Override
+    public long getTimeout(String key) {
+        return timeoutOf(key);
+    }
+
+    @Override
+    public void updateTimeout(String key, long timeout) {
+        expire(key, timeout);
+    }
+
+    @Override
+    public Object getObject(String key) {
+        return read(key);
+    }
+
+    @Override
+    public void setObject(String key, Object object, long timeout) {
+        write(key, KIND_OBJECT, serialize(object), timeout);
+    }
+
+    @Override
+    public void updateObject(String key, Object object) {
+        replace(key, KIND_OBJECT, serialize(object));
+    }
+
+    @Override
+    public void deleteObject(String key) {
+        remove(key);
+    }
+
+    @Override
+    public long getObjectTimeout(String key) {
+        return timeoutOf(key);
+    }
+
+    @Override
+    public void updateObjectTimeout(String key, long timeout) {
+        expire(key, timeout);
+    }
+
+    @Override
+    public List<String> searchData(String prefix, String keyword, int start, int size, boolean sortType) {
+        long now = System.currentTimeMillis();
+        List<String> keys = new ArrayList<>();
+        slots.forEach((key, slot) -> {
+            if (slot.isLive(now)) {
+                keys.add(key);
+            }
+        });
+        return SaFoxUtil.searchList(keys, prefix, keyword, start, size, sortType);
+    }
+
+    /**
+     * 推进时间轮，删除到期的key
+     */
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public void expireDue() {
+        long now = System.currentTimeMillis();
+        for (String key : wheel.advance(now, this::expireAtOf)) {
+            ReadWriteLock lock = lockOf(key);
+            lock.writeLock().lock();
+            try {
+                Slot slot = slots.get(key);
+                if (slot == null || slot.expireAt == NEVER) {
+                    continue;
+                }
+                if (slot.expireAt <= now) {
+                    slots.remove(key);
+                    release(slot);
+                    modifications.incrementAndGet();
+                } else {
+                    // 到期时间已被延长
+                    wheel.schedule(key, slot.expireAt);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 定时写入检查点
+     */
+    @Scheduled(fixedDelayString = "${echologue.token-store.checkpoint-interval:60000}",
+            initialDelayString = "${echologue.token-store.checkpoint-interval:60000}")
+    public void scheduledCheckpoint() {
+        try {
+            checkpoint();
+        } catch (Exception e) {
+            log.error("令牌检查点写入失败", e);
+        }
+    }
+
+    /**
+     * 关闭前写入检查点
+     */
+    @PreDestroy
+    public void shutdownCheckpoint() {
+        scheduledCheckpoint();
+    }
+
+    /**
+     * 将未过期条目写入检查点文件，自上次写入后无变化时跳过
+     */
+    public synchronized void checkpoint() throws IOException {
+        long current = modifications.get();
+        if (current == checkpointedModifications) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<TokenStoreCheckpoint.Entry> entries = new ArrayList<>(slots.size());
+        for (String key : slots.keySet()) {
+            ReadWriteLock lock = lockOf(key);
+            lock.readLock().lock();
+            try {
+                Slot slot = slots.get(key);
+                if (slot != null && slot.isLive(now)) {
+                    entries.add(new TokenStoreCheckpoint.Entry(slot.kind, key, slot.expireAt, load(slot)));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        checkpoint.write(entries);
+        checkpointedModifications = current;
+        log.debug("令牌检查点写入完成，条目数：{}", entries.size());
+    }
+
+    /**
+     * 统计：条目数、堆外已用及已申请字节数
+     */
+    public Map<String, Long> stats() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        result.put("size", (long) slots.size());
+        result.put("usedBytes", arena.usedBytes());
+        result.put("reservedBytes", arena.reservedBytes());
+        return result;
+    }
+
+    private Object read(String key) {
+        byte kind;
+        byte[] bytes;
+        ReadWriteLock lock = lockOf(key);
+        lock.readLock().lock();
+        try {
+            Slot slot = slots.get(key);
+            if (slot == null || !slot.isLive(System.currentTimeMillis())) {
+                return null;
+            }
+            kind = slot.kind;
+            bytes = load(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return kind == KIND_STRING ? new String(bytes, StandardCharsets.UTF_8) : deserialize(key, bytes);
+    }
+
+    private void write(String key, byte kind, byte[] value, long timeout) {
+        if (timeout == 0 || timeout <= NOT_VALUE_EXPIRE) {
+            return;
+        }
+        long expireAt = timeout == NEVER_EXPIRE ? NEVER : System.currentTimeMillis() + timeout * 1000;
+        ReadWriteLock lock = lockOf(key);
+        lock.writeLock().lock();
+        try {
+            store(key, kind, value, expireAt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 替换值，保留原到期时间；key不存在时忽略
+     */
+    private void replace(String key, byte kind, byte[] value) {
+        ReadWriteLock lock = lockOf(key);
+        lock.writeLock().lock();
+        try {
+            Slot slot = slots.get(key);
+            if (slot != null && slot.isLive(System.currentTimeMillis())) {
+                store(key, kind, value, slot.expireAt);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(String key) {
+        ReadWriteLock lock = lockOf(key);
+        lock.writeLock().lock();
+        try {
+            Slot slot = slots.remove(key);
+            if (slot != null) {
+                release(slot);
+                modifications.incrementAndGet();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void expire(String key, long timeout) {
+        ReadWriteLock lock = lockOf(key);
+        lock.writeLock().lock();
+        try {
+            Slot slot = slots.get(key);
+            if (slot == null || !slot.isLive(System.currentTimeMillis())) {
+                return;
+            }
+            long expireAt = timeout == NEVER_EXPIRE ? NEVER : System.currentTimeMillis() + timeout * 1000;
+            slots.put(key, slot.withExpireAt(expireAt));
+            if (expireAt != NEVER) {
+                wheel.schedule(key, expireAt);
+            }
+            modifications.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long timeoutOf(String key) {
+        Slot slot = slots.get(key);
+        if (slot == null) {
+            return NOT_VALUE_EXPIRE;
+        }
+        if (slot.expireAt == NEVER) {
+            return NEVER_EXPIRE;
+        }
+        long remaining = (slot.expireAt - System.currentTimeMillis()) / 1000;
+        return remaining < 0 ? NOT_VALUE_EXPIRE : remaining;
+    }
+
+    private long expireAtOf(String key) {
+        Slot slot = slots.get(key);
+        return slot == null ? -1L : slot.expireAt;
+    }
+
+    /**
+     * 写入新块并替换旧块，调用方持有写锁（启动恢复时无并发，不加锁）
+     */
+    private void store(String key, byte kind, byte[] value, long expireAt) {
+        Slot slot;
+        if (value.length > OffHeapArena.MAX_BLOCK_SIZE) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(value.length);
+            buffer.put(0, value);
+            slot = new Slot(kind, -1L, value.length, buffer, expireAt);
+        } else {
+            long address = arena.allocate(value.length);
+            arena.write(address, value);
+            slot = new Slot(kind, address, value.length, null, expireAt);
+        }
+        Slot old = slots.put(key, slot);
+        if (old != null) {
+            release(old);
+        }
+        if (expireAt != NEVER) {
+            wheel.schedule(key, expireAt);
+        }
+        modifications.incrementAndGet();
+    }
+
+    private byte[] load(Slot slot) {
+        if (slot.buffer != null) {
+            byte[] value = new byte[slot.length];
+            slot.buffer.get(0, value);
+            return value;
+        }
+        return arena.read(slot.address, slot.length);
+    }
+
+    private void release(Slot slot) {
+        if (slot.buffer == null) {
+            arena.free(slot.address, slot.length);
+        }
+    }
+
+    private ReadWriteLock lockOf(String key) {
+        return locks[(key.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
+    }
+
+    private static byte[] serialize(Object object) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(object);
+        } catch (IOException e) {
+            throw new IllegalStateException("令牌存储对象序列化失败：" + object.getClass().getName(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Object deserialize(String key, byte[] bytes) {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return input.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            // 类结构变更等原因无法还原时视为失效
+            log.warn("令牌存储对象反序列化失败，已删除，key：{}", key, e);
+            remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * 条目位置：块地址（或独立的直接内存缓冲区）、长度、类型和到期时间
+     */
+    private record Slot(byte kind, long address, int length, ByteBuffer buffer, long expireAt) {
+
+        private boolean isLive(long now) {
+            return expireAt == NEVER || expireAt > now;
+        }
+
+        private Slot withExpireAt(long newExpireAt) {
+            return new Slot(kind, address, length, buffer, newExpireAt);
+        }
+    }
+}
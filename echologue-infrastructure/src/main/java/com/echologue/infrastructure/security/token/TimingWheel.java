@@ -0,0 +1,103 @@
+package com.echologue.infrastructure.security.token;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * 分层时间轮：4层，每层64格，最底层每格1秒，最高层覆盖约194天
+ * <p>
+ * 只记录key，到期时间以存储中的值为准：低层转满一圈时把上一层当前格中的key按实际到期时间重新分配，
+ * 最底层到期的key交给调用方确认后删除。重复登记或到期时间已变更的key会在确认时被忽略或重新登记。
+ *
+ * @author Echologue
+ */
+final class TimingWheel {
+
+    private static final int LEVELS = 4;
+
+    private static final int SLOT_BITS = 6;
+
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+
+    private final List<List<Set<String>>> levels = new ArrayList<>(LEVELS);
+
+    private long currentTick;
+
+    TimingWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<String>> slots = new ArrayList<>(SLOTS);
+            for (int i = 0; i < SLOTS; i++) {
+                slots.add(new HashSet<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    /**
+     * 登记key的到期时间（毫秒时间戳）
+     */
+    synchronized void schedule(String key, long expireAtMillis) {
+        // 向上取整，保证到期格不早于到期时间
+        long tick = Math.max((expireAtMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        long delta = tick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * (level + 1);
+            if (level == LEVELS - 1 || delta < (1L << shift)) {
+                // 超出最高层范围的放在最远的格子，转到时再按实际时间重新分配
+                long slotTick = delta < (1L << shift) ? tick : currentTick + (1L << shift) - 1;
+                int index = (int) ((slotTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+                levels.get(level).get(index).add(key);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 推进到当前时间，返回最底层到期的key（可能包含未到期或已删除的key，由调用方确认）
+     *
+     * @param expireOf 查询key当前的到期时间，不存在或永不过期时返回负数
+     */
+    List<String> advance(long nowMillis, ToLongFunction<String> expireOf) {
+        List<String> due = new ArrayList<>();
+        long target = nowMillis / tickMillis;
+        synchronized (this) {
+            while (currentTick < target) {
+                currentTick++;
+                cascade(expireOf);
+                Set<String> slot = levels.get(0).get((int) (currentTick & SLOT_MASK));
+                due.addAll(slot);
+                slot.clear();
+            }
+        }
+        return due;
+    }
+
+    /**
+     * 低层转满一圈时，把上一层当前格中的key重新分配到更低的层
+     */
+    private void cascade(ToLongFunction<String> expireOf) {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            Set<String> slot = levels.get(level).get((int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+            List<String> keys = new ArrayList<>(slot);
+            slot.clear();
+            for (String key : keys) {
+                long expireAt = expireOf.applyAsLong(key);
+                if (expireAt >= 0) {
+                    schedule(key, expireAt);
+                }
+            }
+        }
+    }
+}
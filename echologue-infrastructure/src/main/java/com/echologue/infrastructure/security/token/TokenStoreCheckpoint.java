@@ -0,0 +1,135 @@
+package com.echologue.infrastructure.security.token;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * 令牌存储检查点文件（内存映射读写）
+ * <p>
+ * 格式：魔数、版本、条目数，随后逐条写入 类型(1) key长度(4) key 到期时间(8) 值长度(4) 值，末尾为CRC32。
+ * 先写临时文件并强制刷盘，再原子替换正式文件，中途失败不会破坏上一个检查点。
+ * 文件中是明文令牌，支持POSIX权限的文件系统上只允许属主读写。
+ *
+ * @author Echologue
+ */
+final class TokenStoreCheckpoint {
+
+    private static final int MAGIC = 0x45435448;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 12;
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rw-------");
+
+    private final Path file;
+
+    TokenStoreCheckpoint(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * 检查点条目
+     */
+    record Entry(byte kind, String key, long expireAt, byte[] value) {
+
+        private int size(byte[] keyBytes) {
+            return 1 + 4 + keyBytes.length + 8 + 4 + value.length;
+        }
+    }
+
+    /**
+     * 写入检查点
+     */
+    void write(List<Entry> entries) throws IOException {
+        List<byte[]> keys = new ArrayList<>(entries.size());
+        long size = HEADER_SIZE + 8;
+        for (Entry entry : entries) {
+            byte[] key = entry.key().getBytes(StandardCharsets.UTF_8);
+            keys.add(key);
+            size += entry.size(key);
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("检查点超过2GB，条目数：" + entries.size());
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        // 权限只在创建时生效，先删除上次残留的临时文件
+        Files.deleteIfExists(temp);
+        Set<StandardOpenOption> options = EnumSet.of(StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileAttribute<?>[] attributes = temp.getFileSystem().supportedFileAttributeViews().contains("posix")
+                ? new FileAttribute<?>[]{PosixFilePermissions.asFileAttribute(OWNER_ONLY)}
+                : new FileAttribute<?>[0];
+        try (FileChannel channel = FileChannel.open(temp, options, attributes)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                byte[] key = keys.get(i);
+                buffer.put(entry.kind())
+                        .putInt(key.length).put(key)
+                        .putLong(entry.expireAt())
+                        .putInt(entry.value().length).put(entry.value());
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate().flip());
+            buffer.putLong(crc.getValue());
+            buffer.force();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 读取检查点，文件不存在时返回空列表，文件损坏时抛出异常
+     */
+    List<Entry> read() throws IOException {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + 8 || size > Integer.MAX_VALUE) {
+                throw new IOException("检查点文件大小异常：" + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate().limit((int) size - 8));
+            if (crc.getValue() != buffer.getLong((int) size - 8)) {
+                throw new IOException("检查点校验失败");
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("检查点格式不支持");
+            }
+
+            int count = buffer.getInt();
+            List<Entry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte kind = buffer.get();
+                byte[] key = new byte[buffer.getInt()];
+                buffer.get(key);
+                long expireAt = buffer.getLong();
+                byte[] value = new byte[buffer.getInt()];
+                buffer.get(value);
+                entries.add(new Entry(kind, new String(key, StandardCharsets.UTF_8), expireAt, value));
+            }
+            return entries;
+        }
+    }
+}
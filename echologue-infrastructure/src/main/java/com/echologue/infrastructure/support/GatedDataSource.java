@@ -0,0 +1,127 @@
+package com.echologue.infrastructure.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 连接获取闸门
+ * <p>
+ * 同时持有的连接数不超过许可数，排队等待的线程数也有上限，超出时立即失败；
+ * 等待超时同样失败，均抛出 {@link SQLTransientConnectionException}。
+ * 虚拟线程下请求线程数不再受线程池限制，闸门避免大量线程同时排队挤压连接池和数据库。
+ * 许可在连接关闭时归还（重复关闭只归还一次）。
+ *
+ * @author Echologue
+ */
+public class GatedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+
+    private final int maxWaiters;
+
+    private final long acquireTimeoutMillis;
+
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    public GatedDataSource(DataSource target, int permits, int maxWaiters, long acquireTimeoutMillis) {
+        super(target);
+        this.permits = new Semaphore(permits, true);
+        this.maxWaiters = maxWaiters;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return gate(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return gate(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 当前可用许可数
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 当前排队等待的线程数
+     */
+    public int waiters() {
+        return waiters.get();
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiters.incrementAndGet() > maxWaiters) {
+            waiters.decrementAndGet();
+            throw new SQLTransientConnectionException("数据库连接排队已满");
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("获取数据库连接超时（" + acquireTimeoutMillis + "ms）");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("获取数据库连接被中断", e);
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    private Connection gate(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    }
+                    if ("unwrap".equals(method.getName()) || "isWrapperFor".equals(method.getName())) {
+                        Class<?> type = (Class<?>) args[0];
+                        if (type.isInstance(proxy)) {
+                            return "unwrap".equals(method.getName()) ? proxy : Boolean.TRUE;
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,181 @@
+package com.echologue.infrastructure.persistence.repository;
+
+import com.baomidou.mybatisplus.autoconfigure.MybatisPlusAutoConfiguration;
+import com.echologue.domain.article.model.Article;
+import com.echologue.domain.user.model.UserId;
+import com.echologue.infrastructure.config.MetaObjectHandlerConfig;
+import com.echologue.infrastructure.config.MybatisPlusConfig;
+import com.echologue.infrastructure.persistence.converter.ArticlePOConverterImpl;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 文章仓储分页查询的语句数：标签按整页一次IN查询加载，语句数与页大小无关
+ * <p>
+ * 使用真实的Mapper和 H2（MySQL 兼容模式），表结构见 {@code article-schema.sql}。
+ *
+ * @author Echologue
+ */
+@SpringBootTest(classes = ArticleRepositoryImplTest.RepositoryContext.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:article-repository;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.sql.init.schema-locations=classpath:article-schema.sql",
+        "mybatis-plus.configuration.map-underscore-to-camel-case=true",
+        "logging.level.root=WARN"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArticleRepositoryImplTest {
+
+    private static final long AUTHOR_ID = 1L;
+
+    private static final long CATEGORY_ID = 1L;
+
+    private static final int ARTICLES = 60;
+
+    private static final int TAGS_PER_ARTICLE = 3;
+
+    @Autowired
+    private ArticleRepositoryImpl repository;
+
+    @Autowired
+    private StatementRecorder recorder;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    void seed() {
+        List<Object[]> rows = new ArrayList<>(ARTICLES);
+        List<Object[]> tagRows = new ArrayList<>(ARTICLES * TAGS_PER_ARTICLE);
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= ARTICLES; id++) {
+            Timestamp publishedAt = Timestamp.valueOf(now.minusMinutes(id));
+            rows.add(new Object[]{id, AUTHOR_ID, "文章" + id, "article-" + id, "内容" + id,
+                    "PUBLISHED", CATEGORY_ID, publishedAt, publishedAt, publishedAt});
+            for (long tagId = 1; tagId <= TAGS_PER_ARTICLE; tagId++) {
+                tagRows.add(new Object[]{id, tagId});
+            }
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.batchUpdate("INSERT INTO article (id, author_id, title, slug, content, status, category_id, "
+                + "published_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.batchUpdate("INSERT INTO article_tag (article_id, tag_id) VALUES (?, ?)", tagRows);
+    }
+
+    @Test
+    void findPublishedIssuesSameStatementsForAnyPageSize() {
+        assertStatementsIndependentOfPageSize(size -> () -> repository.findPublished(1, size));
+    }
+
+    @Test
+    void findByAuthorIdIssuesSameStatementsForAnyPageSize() {
+        assertStatementsIndependentOfPageSize(
+                size -> () -> repository.findByAuthorId(UserId.of(AUTHOR_ID), 1, size));
+    }
+
+    @Test
+    void findByCategoryIdIssuesSameStatementsForAnyPageSize() {
+        assertStatementsIndependentOfPageSize(size -> () -> repository.findByCategoryId(CATEGORY_ID, 1, size));
+    }
+
+    /**
+     * 分页插件的COUNT查询不计入：页面查询 + 标签IN查询，共2条
+     */
+    private void assertStatementsIndependentOfPageSize(PageQuery query) {
+        int single = countStatements(query.of(1), 1);
+        int full = countStatements(query.of(50), 50);
+        assertEquals(2, single);
+        assertEquals(single, full);
+    }
+
+    private int countStatements(Supplier<List<Article>> query, int expectedSize) {
+        recorder.clear();
+        List<Article> articles = query.get();
+        assertEquals(expectedSize, articles.size());
+        articles.forEach(article -> assertEquals(TAGS_PER_ARTICLE, article.getTagIds().size()));
+        return (int) recorder.statements().stream()
+                .filter(sql -> !sql.trim().toUpperCase(Locale.ROOT).startsWith("SELECT COUNT("))
+                .count();
+    }
+
+    @FunctionalInterface
+    private interface PageQuery {
+        Supplier<List<Article>> of(int size);
+    }
+
+    /**
+     * 记录每条预编译的SQL
+     */
+    @Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = {Connection.class, Integer.class}))
+    static class StatementRecorder implements Interceptor {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Object intercept(Invocation invocation) throws Throwable {
+            StatementHandler handler = (StatementHandler) invocation.getTarget();
+            statements.add(handler.getBoundSql().getSql());
+            return invocation.proceed();
+        }
+
+        List<String> statements() {
+            return statements;
+        }
+
+        void clear() {
+            statements.clear();
+        }
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            TransactionAutoConfiguration.class,
+            SqlInitializationAutoConfiguration.class,
+            MybatisPlusAutoConfiguration.class
+    })
+    @Import({
+            MybatisPlusConfig.class,
+            MetaObjectHandlerConfig.class,
+            ArticlePOConverterImpl.class,
+            ArticleRepositoryImpl.class
+    })
+    static class RepositoryContext {
+
+        @Bean
+        StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+}
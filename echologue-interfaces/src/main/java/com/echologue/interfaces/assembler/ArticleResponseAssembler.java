@@ -0,0 +1,56 @@
+package com.echologue.interfaces.assembler;
+
+import com.echologue.application.article.dto.ArticleDTO;
+import com.echologue.application.article.dto.ArticleImportProgressDTO;
+import com.echologue.interfaces.dto.response.ArticleDetailResponse;
+import com.echologue.interfaces.dto.response.ArticleExportResponse;
+import com.echologue.interfaces.dto.response.ArticleImportResponse;
+import com.echologue.interfaces.dto.response.ArticleListResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import java.util.List;
+
+/**
+ * 文章响应装配器（编译期生成实现）
+ *
+ * @author Echologue
+ */
+@Mapper(componentModel = "spring")
+public interface ArticleResponseAssembler {
+
+    /**
+     * DTO转详情响应
+     */
+    @Mapping(target = "tagIds", qualifiedByName = "sameList")
+    @Mapping(target = "tagNames", qualifiedByName = "sameList")
+    ArticleDetailResponse toDetailResponse(ArticleDTO dto);
+
+    /**
+     * DTO转列表响应
+     */
+    @Mapping(target = "tagNames", qualifiedByName = "sameList")
+    ArticleListResponse toListResponse(ArticleDTO dto);
+
+    /**
+     * DTO转导出记录
+     */
+    @Mapping(target = "tagIds", qualifiedByName = "sameList")
+    @Mapping(target = "tagNames", qualifiedByName = "sameList")
+    ArticleExportResponse toExportResponse(ArticleDTO dto);
+
+    /**
+     * 导入进度DTO转响应
+     */
+    @Mapping(target = "errors", qualifiedByName = "sameList")
+    ArticleImportResponse toImportResponse(ArticleImportProgressDTO dto);
+
+    /**
+     * 列表直接引用，不复制
+     */
+    @Named("sameList")
+    default <T> List<T> sameList(List<T> list) {
+        return list;
+    }
+}
@@ -0,0 +1,135 @@
+package com.echologue.interfaces.controller;
+
+import cn.dev33.satoken.annotation.SaCheckRole;
+import com.echologue.application.article.ArticleExportService;
+import com.echologue.application.article.ArticleImportService;
+import com.echologue.application.article.dto.ArticleDTO;
+import com.echologue.application.article.dto.ArticleImportProgressDTO;
+import com.echologue.interfaces.assembler.ArticleResponseAssembler;
+import com.echologue.interfaces.dto.response.ArticleExportResponse;
+import com.echologue.interfaces.dto.response.ArticleImportResponse;
+import com.echologue.types.common.Result;
+import com.echologue.types.enums.ArticleStatus;
+import com.echologue.types.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 文章管理后台控制器
+ *
+ * @author Echologue
+ */
+@Tag(name = "文章后台管理", description = "文章导入导出等管理员操作")
+@RestController
+@RequestMapping("/api/admin/article")
+@RequiredArgsConstructor
+@SaCheckRole("admin")
+public class AdminArticleController {
+    
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    
+    private final ArticleExportService articleExportService;
+    private final ArticleImportService articleImportService;
+    private final ArticleResponseAssembler articleResponseAssembler;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * 导出文章
+     * <p>
+     * 每行一篇文章的NDJSON，边查边写，不在内存中汇总全部结果。
+     */
+    @Operation(summary = "导出文章",
+            description = "需要管理员角色。按ID升序输出NDJSON（每行一篇，不含渲染后的HTML）；"
+                    + "status为空时导出全部状态，gzip=true时输出.ndjson.gz")
+    @GetMapping("/export")
+    public void exportArticles(@RequestParam(name = "status", required = false) String status,
+                               @RequestParam(name = "gzip", defaultValue = "false") boolean gzip,
+                               HttpServletResponse response) throws IOException {
+        // 先校验状态，未知状态按400返回，此时尚未写出下载的响应头
+        ArticleStatus articleStatus = articleExportService.parseStatus(status);
+        String filename = "articles-" + LocalDateTime.now().format(FILE_TIME_FORMAT) + (gzip ? ".ndjson.gz" : ".ndjson");
+        response.setContentType(gzip ? "application/gzip" : "application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+        
+        OutputStream out = gzip ? new GZIPOutputStream(response.getOutputStream(), 8192) : response.getOutputStream();
+        ObjectWriter writer = objectMapper.writerFor(ArticleExportResponse.class);
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            // 行之间用换行分隔，由外层负责关闭输出流
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            articleExportService.exportArticles(articleStatus, batch -> {
+                try {
+                    for (ArticleDTO dto : batch) {
+                        writer.writeValue(generator, articleResponseAssembler.toExportResponse(dto));
+                        generator.writeRaw('\n');
+                    }
+                    // 每批刷出一次，客户端可以边下载边处理
+                    generator.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        if (out instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+        out.flush();
+    }
+    
+    /**
+     * 批量导入文章
+     * <p>
+     * 上传内容先落到临时文件再交给后台任务，请求立即返回任务进度。
+     */
+    @Operation(summary = "批量导入文章",
+            description = "需要管理员角色。支持 .ndjson/.jsonl（导出格式，可gzip压缩为 .ndjson.gz）"
+                    + "和 Markdown 文件的 .zip 包（支持YAML front matter）。作者为当前用户；"
+                    + "status为记录未指定状态时使用的状态，默认草稿。返回任务ID，凭此查询进度")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public Result<ArticleImportResponse> importArticles(@RequestPart(name = "file") MultipartFile file,
+                                                        @RequestParam(name = "status", required = false) String status)
+            throws IOException {
+        if (file.isEmpty()) {
+            throw new BusinessException(400, "导入文件为空");
+        }
+        Path tempFile = Files.createTempFile("article-import-", ".tmp");
+        try {
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        ArticleImportProgressDTO progress = articleImportService.startImport(file.getOriginalFilename(), tempFile, status);
+        return Result.success("导入任务已启动", articleResponseAssembler.toImportResponse(progress));
+    }
+    
+    /**
+     * 查询导入进度
+     */
+    @Operation(summary = "查询导入进度", description = "需要管理员角色。任务结束后保留一小时")
+    @GetMapping("/import/{jobId}")
+    public Result<ArticleImportResponse> getImportProgress(@PathVariable(name = "jobId") String jobId) {
+        return Result.success(articleResponseAssembler.toImportResponse(articleImportService.getProgress(jobId)));
+    }
+}
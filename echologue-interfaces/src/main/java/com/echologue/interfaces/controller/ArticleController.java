@@ -3,8 +3,10 @@ package com.echologue.interfaces.controller;
 import cn.dev33.satoken.annotation.SaCheckLogin;
 import com.echologue.application.article.ArticleApplicationService;
 import com.echologue.application.article.dto.ArticleDTO;
+import com.echologue.application.article.dto.ArticleVersionDTO;
 import com.echologue.application.article.dto.CreateArticleCmd;
 import com.echologue.application.article.dto.UpdateArticleCmd;
+import com.echologue.interfaces.assembler.ArticleResponseAssembler;
 import com.echologue.interfaces.dto.request.CreateArticleRequest;
 import com.echologue.interfaces.dto.request.UpdateArticleRequest;
 import com.echologue.interfaces.dto.response.ArticleDetailResponse;
@@ -13,12 +15,16 @@ import com.echologue.types.common.PageResult;
 import com.echologue.types.common.Result;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
  * 文章控制器
@@ -32,6 +38,7 @@ import java.util.stream.Collectors;
 public class ArticleController {
     
     private final ArticleApplicationService articleApplicationService;
+    private final ArticleResponseAssembler articleResponseAssembler;
     
     /**
      * 创建文章
@@ -95,6 +102,17 @@ public class ArticleController {
         return Result.success("取消发布成功", null);
     }
     
+    /**
+     * 归档文章
+     */
+    @Operation(summary = "归档文章", description = "需要登录，只能操作自己的文章")
+    @PostMapping("/{id}/archive")
+    @SaCheckLogin
+    public Result<Void> archiveArticle(@PathVariable(name = "id") Long id) {
+        articleApplicationService.archiveArticle(id);
+        return Result.success("归档成功", null);
+    }
+    
     /**
      * 删除文章
      */
@@ -109,70 +127,83 @@ public class ArticleController {
     /**
      * 获取文章详情
      */
-    @Operation(summary = "获取文章详情")
+    @Operation(summary = "获取文章详情",
+            description = "format=html时返回服务端渲染的正文HTML（contentHtml），不返回原文。"
+                    + "支持If-None-Match/If-Modified-Since条件请求，未变化时返回304")
     @GetMapping("/{id}")
-    public Result<ArticleDetailResponse> getArticleDetail(@PathVariable(name = "id") Long id) {
-        ArticleDTO articleDTO = articleApplicationService.getArticleDetail(id);
+    public Result<ArticleDetailResponse> getArticleDetail(@PathVariable(name = "id") Long id,
+                                                          @RequestParam(name = "format", defaultValue = "markdown") String format,
+                                                          ServletWebRequest webRequest) {
+        boolean html = "html".equalsIgnoreCase(format);
+        
+        // 校验通过时直接返回304，不组装详情、不计浏览量
+        ArticleVersionDTO version = articleApplicationService.getArticleVersion(id);
+        if (version != null && checkNotModified(webRequest, articleETag(version, html), toEpochMilli(version.getUpdatedAt()))) {
+            return null;
+        }
+        
+        ArticleDTO articleDTO = articleApplicationService.getArticleDetail(id, html);
+        return Result.success(articleResponseAssembler.toDetailResponse(articleDTO));
+    }
+    
+    /**
+     * 根据slug获取文章详情
+     */
+    @Operation(summary = "根据slug获取文章详情", description = "参数和条件请求规则同按ID获取文章详情")
+    @GetMapping("/slug/{slug}")
+    public Result<ArticleDetailResponse> getArticleDetailBySlug(@PathVariable(name = "slug") String slug,
+                                                                @RequestParam(name = "format", defaultValue = "markdown") String format,
+                                                                ServletWebRequest webRequest) {
+        boolean html = "html".equalsIgnoreCase(format);
         
-        ArticleDetailResponse response = ArticleDetailResponse.builder()
-                .id(articleDTO.getId())
-                .authorId(articleDTO.getAuthorId())
-                .authorName(articleDTO.getAuthorName())
-                .title(articleDTO.getTitle())
-                .slug(articleDTO.getSlug())
-                .summary(articleDTO.getSummary())
-                .cover(articleDTO.getCover())
-                .content(articleDTO.getContent())
-                .status(articleDTO.getStatus())
-                .categoryId(articleDTO.getCategoryId())
-                .tagIds(articleDTO.getTagIds())
-                .views(articleDTO.getViews())
-                .likes(articleDTO.getLikes())
-                .commentCount(articleDTO.getCommentCount())
-                .publishedAt(articleDTO.getPublishedAt())
-                .createdAt(articleDTO.getCreatedAt())
-                .updatedAt(articleDTO.getUpdatedAt())
-                .build();
+        ArticleVersionDTO version = articleApplicationService.getArticleVersionBySlug(slug);
+        if (version != null && checkNotModified(webRequest, articleETag(version, html), toEpochMilli(version.getUpdatedAt()))) {
+            return null;
+        }
         
-        return Result.success(response);
+        ArticleDTO articleDTO = articleApplicationService.getArticleDetailBySlug(slug, html);
+        return Result.success(articleResponseAssembler.toDetailResponse(articleDTO));
     }
     
     /**
      * 获取已发布文章列表
      */
-    @Operation(summary = "获取已发布文章列表", description = "分页查询")
+    @Operation(summary = "获取已发布文章列表",
+            description = "默认按页码分页；传入cursor参数（首页传空字符串）时按游标分页，返回nextCursor；每页条数限制在1~100。"
+                    + "支持条件请求，列表未变化时返回304")
     @GetMapping
     public Result<PageResult<ArticleListResponse>> getPublishedArticles(
             @RequestParam(name = "page", defaultValue = "1") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            ServletWebRequest webRequest) {
         
-        PageResult<ArticleDTO> pageResult = articleApplicationService.getPublishedArticles(page, size);
+        // 列表中的浏览量等计数允许滞后，使用弱校验
+        String feedETag = "W/\"feed-" + articleApplicationService.getFeedVersion() + "\"";
+        if (checkNotModified(webRequest, feedETag, articleApplicationService.getFeedLastModified())) {
+            return null;
+        }
         
-        List<ArticleListResponse> responseList = pageResult.getRecords().stream()
-                .map(dto -> ArticleListResponse.builder()
-                        .id(dto.getId())
-                        .authorName(dto.getAuthorName())
-                        .title(dto.getTitle())
-                        .slug(dto.getSlug())
-                        .summary(dto.getSummary())
-                        .cover(dto.getCover())
-                        .status(dto.getStatus())
-                        .views(dto.getViews())
-                        .likes(dto.getLikes())
-                        .commentCount(dto.getCommentCount())
-                        .publishedAt(dto.getPublishedAt())
-                        .createdAt(dto.getCreatedAt())
-                        .build())
-                .collect(Collectors.toList());
+        PageResult<ArticleDTO> pageResult = cursor != null
+                ? articleApplicationService.getPublishedArticlesByCursor(cursor, size)
+                : articleApplicationService.getPublishedArticles(page, size);
         
-        PageResult<ArticleListResponse> result = PageResult.of(
-                responseList, 
-                pageResult.getTotal(), 
-                pageResult.getPage(), 
-                pageResult.getSize()
-        );
+        return Result.success(pageResult.map(articleResponseAssembler::toListResponse));
+    }
+    
+    /**
+     * 全文检索文章
+     */
+    @Operation(summary = "全文检索文章", description = "检索已发布文章的标题、摘要和正文，按相关度排序")
+    @GetMapping("/search")
+    public Result<PageResult<ArticleListResponse>> searchArticles(
+            @RequestParam(name = "q") String q,
+            @RequestParam(name = "page", defaultValue = "1") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) {
         
-        return Result.success(result);
+        PageResult<ArticleDTO> pageResult = articleApplicationService.searchArticles(q, page, size);
+        
+        return Result.success(pageResult.map(articleResponseAssembler::toListResponse));
     }
     
     /**
@@ -187,30 +218,29 @@ public class ArticleController {
         
         PageResult<ArticleDTO> pageResult = articleApplicationService.getMyArticles(page, size);
         
-        List<ArticleListResponse> responseList = pageResult.getRecords().stream()
-                .map(dto -> ArticleListResponse.builder()
-                        .id(dto.getId())
-                        .authorName(dto.getAuthorName())
-                        .title(dto.getTitle())
-                        .slug(dto.getSlug())
-                        .summary(dto.getSummary())
-                        .cover(dto.getCover())
-                        .status(dto.getStatus())
-                        .views(dto.getViews())
-                        .likes(dto.getLikes())
-                        .commentCount(dto.getCommentCount())
-                        .publishedAt(dto.getPublishedAt())
-                        .createdAt(dto.getCreatedAt())
-                        .build())
-                .collect(Collectors.toList());
-        
-        PageResult<ArticleListResponse> result = PageResult.of(
-                responseList,
-                pageResult.getTotal(),
-                pageResult.getPage(),
-                pageResult.getSize()
-        );
-        
-        return Result.success(result);
+        return Result.success(pageResult.map(articleResponseAssembler::toListResponse));
+    }
+    
+    /**
+     * 条件请求校验：写入ETag、Last-Modified响应头，匹配时将响应置为304
+     */
+    private boolean checkNotModified(ServletWebRequest webRequest, String etag, long lastModified) {
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            // 要求客户端每次使用前重新校验，避免按Last-Modified启发式缓存
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+        return webRequest.checkNotModified(etag, lastModified);
+    }
+    
+    /**
+     * 文章强校验ETag：ID + 版本号（两种正文格式的响应体不同，分别校验）
+     */
+    private String articleETag(ArticleVersionDTO version, boolean html) {
+        return "\"article-" + version.getId() + "-" + version.getVersion() + (html ? "-html" : "") + "\"";
+    }
+    
+    private long toEpochMilli(LocalDateTime time) {
+        return time == null ? -1L : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 }
@@ -72,6 +72,17 @@ public class CategoryController {
         return Result.success(categories);
     }
     
+    /**
+     * 按名称前缀联想分类
+     */
+    @Operation(summary = "联想分类", description = "按名称前缀匹配（忽略大小写），按文章数量降序，最多返回50个")
+    @GetMapping("/suggest")
+    public Result<List<Category>> suggestCategories(@RequestParam(name = "q", defaultValue = "") String q,
+                                                    @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        List<Category> categories = categoryApplicationService.suggestCategories(q, limit);
+        return Result.success(categories);
+    }
+    
     /**
      * 根据ID查询分类
      */
@@ -81,4 +92,14 @@ public class CategoryController {
         Category category = categoryApplicationService.getCategoryById(id);
         return Result.success(category);
     }
+    
+    /**
+     * 根据slug查询分类
+     */
+    @Operation(summary = "根据slug查询分类")
+    @GetMapping("/slug/{slug}")
+    public Result<Category> getCategoryBySlug(@PathVariable(name = "slug") String slug) {
+        Category category = categoryApplicationService.getCategoryBySlug(slug);
+        return Result.success(category);
+    }
 }
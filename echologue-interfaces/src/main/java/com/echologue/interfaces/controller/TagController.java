@@ -69,6 +69,17 @@ public class TagController {
         return Result.success(tags);
     }
     
+    /**
+     * 按名称前缀联想标签
+     */
+    @Operation(summary = "联想标签", description = "按名称前缀匹配（忽略大小写），按文章数量降序，最多返回50个")
+    @GetMapping("/suggest")
+    public Result<List<Tag>> suggestTags(@RequestParam(name = "q", defaultValue = "") String q,
+                                         @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        List<Tag> tags = tagApplicationService.suggestTags(q, limit);
+        return Result.success(tags);
+    }
+    
     /**
      * 根据ID查询标签
      */
@@ -78,4 +89,14 @@ public class TagController {
         Tag tag = tagApplicationService.getTagById(id);
         return Result.success(tag);
     }
+    
+    /**
+     * 根据slug查询标签
+     */
+    @Operation(summary = "根据slug查询标签")
+    @GetMapping("/slug/{slug}")
+    public Result<Tag> getTagBySlug(@PathVariable(name = "slug") String slug) {
+        Tag tag = tagApplicationService.getTagBySlug(slug);
+        return Result.success(tag);
+    }
 }
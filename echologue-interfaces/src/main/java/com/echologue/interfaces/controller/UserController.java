@@ -2,11 +2,13 @@ package com.echologue.interfaces.controller;
 
 import cn.dev33.satoken.annotation.SaCheckLogin;
 import com.echologue.application.user.UserApplicationService;
+import com.echologue.application.user.dto.UserAvailabilityDTO;
 import com.echologue.application.user.dto.UserDTO;
 import com.echologue.application.user.dto.UserLoginCmd;
 import com.echologue.application.user.dto.UserRegisterCmd;
 import com.echologue.interfaces.dto.request.UserLoginRequest;
 import com.echologue.interfaces.dto.request.UserRegisterRequest;
+import com.echologue.interfaces.dto.response.UserAvailabilityResponse;
 import com.echologue.interfaces.dto.response.UserInfoResponse;
 import com.echologue.types.common.Result;
 import io.swagger.v3.oas.annotations.Operation;
@@ -43,6 +45,24 @@ public class UserController {
         return Result.success("注册成功", userId);
     }
     
+    /**
+     * 检查用户名、邮箱是否可用
+     */
+    @Operation(summary = "检查用户名、邮箱是否可用", description = "用于注册表单实时校验，未传入的参数不检查")
+    @GetMapping("/check-availability")
+    public Result<UserAvailabilityResponse> checkAvailability(
+            @RequestParam(name = "username", required = false) String username,
+            @RequestParam(name = "email", required = false) String email) {
+        UserAvailabilityDTO availability = userApplicationService.checkAvailability(username, email);
+        
+        UserAvailabilityResponse response = UserAvailabilityResponse.builder()
+                .usernameAvailable(availability.getUsernameAvailable())
+                .emailAvailable(availability.getEmailAvailable())
+                .build();
+        
+        return Result.success(response);
+    }
+    
     /**
      * 用户登录
      */
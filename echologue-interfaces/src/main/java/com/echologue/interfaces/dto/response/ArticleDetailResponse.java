@@ -41,15 +41,24 @@ public class ArticleDetailResponse {
     @Schema(description = "文章内容")
     private String content;
     
+    @Schema(description = "正文HTML（format=html时返回）")
+    private String contentHtml;
+    
     @Schema(description = "状态")
     private String status;
     
     @Schema(description = "分类ID")
     private Long categoryId;
     
+    @Schema(description = "分类名称")
+    private String categoryName;
+    
     @Schema(description = "标签ID列表")
     private List<Long> tagIds;
     
+    @Schema(description = "标签名称列表")
+    private List<String> tagNames;
+    
     @Schema(description = "浏览量")
     private Integer views;
     
@@ -0,0 +1,49 @@
+package com.echologue.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 文章导入任务进度响应
+ *
+ * @author Echologue
+ */
+@Data
+@Builder
+@Schema(description = "文章导入任务进度")
+public class ArticleImportResponse {
+    
+    @Schema(description = "任务ID")
+    private String jobId;
+    
+    @Schema(description = "文件名")
+    private String filename;
+    
+    @Schema(description = "状态：RUNNING/COMPLETED/FAILED")
+    private String status;
+    
+    @Schema(description = "已读取的记录数")
+    private Long read;
+    
+    @Schema(description = "已写入的文章数")
+    private Long imported;
+    
+    @Schema(description = "失败的记录数")
+    private Long failed;
+    
+    @Schema(description = "导入速度（篇/分钟）")
+    private Long articlesPerMinute;
+    
+    @Schema(description = "错误信息（最多前100条）")
+    private List<String> errors;
+    
+    @Schema(description = "开始时间")
+    private LocalDateTime startedAt;
+    
+    @Schema(description = "结束时间")
+    private LocalDateTime finishedAt;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 文章列表响应
@@ -37,6 +38,12 @@ public class ArticleListResponse {
     @Schema(description = "状态")
     private String status;
     
+    @Schema(description = "分类名称")
+    private String categoryName;
+    
+    @Schema(description = "标签名称列表")
+    private List<String> tagNames;
+    
     @Schema(description = "浏览量")
     private Integer views;
     
@@ -0,0 +1,22 @@
+package com.echologue.interfaces.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 用户名/邮箱可用性响应
+ *
+ * @author Echologue
+ */
+@Data
+@Builder
+@Schema(description = "用户名/邮箱可用性响应")
+public class UserAvailabilityResponse {
+    
+    @Schema(description = "用户名是否可用，未传入用户名时为空")
+    private Boolean usernameAvailable;
+    
+    @Schema(description = "邮箱是否可用，未传入邮箱时为空")
+    private Boolean emailAvailable;
+}
@@ -2,16 +2,20 @@ package com.echologue.config;
 
 import cn.dev33.satoken.exception.NotLoginException;
 import cn.dev33.satoken.exception.NotPermissionException;
+import cn.dev33.satoken.exception.NotRoleException;
 import com.echologue.types.common.Result;
 import com.echologue.types.exception.BusinessException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.validation.BindException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLTransientConnectionException;
+
 /**
  * 全局异常处理器
  *
@@ -48,6 +52,15 @@ public class GlobalExceptionHandler {
         return Result.fail(403, "权限不足");
     }
     
+    /**
+     * Sa-Token 角色不足异常
+     */
+    @ExceptionHandler(NotRoleException.class)
+    public Result<?> handleNotRoleException(NotRoleException e) {
+        log.error("角色不足：{}", e.getMessage());
+        return Result.fail(403, "权限不足");
+    }
+    
     /**
      * 参数校验异常（@Validated）
      */
@@ -79,6 +92,15 @@ public class GlobalExceptionHandler {
         return Result.fail(400, e.getMessage());
     }
 
+    /**
+     * 上传文件超过大小限制
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public Result<?> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException e) {
+        log.warn("上传文件过大：{}", e.getMessage());
+        return Result.fail(400, "上传文件过大");
+    }
+
     /**
      * 静态资源不存在异常
      */
@@ -93,6 +115,13 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public Result<?> handleException(Exception e) {
+        // 连接池或连接闸门繁忙（经过多层框架包装，按异常链判断）
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                log.warn("数据库连接繁忙：{}", cause.getMessage());
+                return Result.fail(503, "服务繁忙，请稍后重试");
+            }
+        }
         log.error("系统异常：", e);
         return Result.fail("系统异常，请联系管理员");
     }
@@ -24,6 +24,8 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 // 允许的请求头
                 .allowedHeaders("*")
+                // 允许前端读取条件请求所需的响应头
+                .exposedHeaders("ETag", "Last-Modified")
                 // 允许携带凭证
                 .allowCredentials(true)
                 // 预检请求有效期（秒）
@@ -57,6 +57,7 @@ CREATE TABLE `article` (
   `cover` VARCHAR(255) DEFAULT NULL COMMENT '封面图',
   `content` LONGTEXT COMMENT '文章内容（Markdown或JSON格式）',
   `content_type` VARCHAR(20) NOT NULL DEFAULT 'markdown' COMMENT '内容类型：markdown/json',
+  `content_html` LONGTEXT COMMENT '正文HTML（Markdown渲染结果，发布或更新时生成）',
   `status` VARCHAR(20) NOT NULL DEFAULT 'DRAFT' COMMENT '状态：DRAFT-草稿 PUBLISHED-已发布 ARCHIVED-归档',
   `category_id` BIGINT DEFAULT NULL COMMENT '分类ID（引用Category聚合）',
   `views` INT NOT NULL DEFAULT 0 COMMENT '浏览量',
@@ -71,6 +72,7 @@ CREATE TABLE `article` (
   KEY `idx_author_id` (`author_id`),
   KEY `idx_status` (`status`),
   KEY `idx_published_at` (`published_at`),
+  KEY `idx_status_published_id` (`status`, `published_at`, `id`),
   KEY `idx_category_id` (`category_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='文章表';
 
@@ -5,7 +5,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 分页响应结果
@@ -44,6 +46,11 @@ public class PageResult<T> implements Serializable {
      */
     private Long pages;
     
+    /**
+     * 下一页游标（游标分页模式下返回，没有更多数据时为空）
+     */
+    private String nextCursor;
+    
     /**
      * 构造分页结果
      */
@@ -56,4 +63,26 @@ public class PageResult<T> implements Serializable {
         result.setPages((total + size - 1) / size);
         return result;
     }
+    
+    /**
+     * 构造游标分页结果（不统计总数）
+     */
+    public static <T> PageResult<T> ofCursor(List<T> records, Long size, String nextCursor) {
+        PageResult<T> result = new PageResult<>();
+        result.setRecords(records);
+        result.setSize(size);
+        result.setNextCursor(nextCursor);
+        return result;
+    }
+    
+    /**
+     * 转换数据列表，保留分页信息
+     */
+    public <R> PageResult<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = new ArrayList<>(records.size());
+        for (T record : records) {
+            mapped.add(mapper.apply(record));
+        }
+        return new PageResult<>(mapped, total, page, size, pages, nextCursor);
+    }
 }